@@ -6,7 +6,9 @@ import com.example.capstonedesign20252.group.service.GroupService;
 import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
 import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,7 @@ public class ChatbotService {
   private final PaymentRepository paymentRepository;
   private final GroupMemberRepository groupMemberRepository;
   private final GroupService groupService;
+  private final PaymentStatisticsService paymentStatisticsService;
 
   private static final String SYSTEM_PROMPT = """
       당신은 '오토피봇(Auto Fee Bot)' 동아리 회비 관리 시스템의 AI 도우미 두레입니다.
@@ -137,9 +140,7 @@ public class ChatbotService {
                                                 (p1, p2) -> p1
                                             ));
 
-    LocalDateTime now = LocalDateTime.now();
-
-    // ✅ 미납자 분류 (PENDING, OVERDUE 분리)
+    // ✅ 미납자 분류 (PENDING, OVERDUE 분리, OVERDUE 전환은 마감 스케줄러가 처리)
     List<GroupMember> pendingMembers = new ArrayList<>();  // 납부 대기
     List<GroupMember> overdueMembers = new ArrayList<>();  // 연체
 
@@ -152,12 +153,6 @@ public class ChatbotService {
       } else {
         String status = payment.getStatus();
 
-        // PENDING인데 마감일 지났으면 OVERDUE
-        if ("PENDING".equals(status) && payment.getDueDate() != null
-            && payment.getDueDate().isBefore(now)) {
-          status = "OVERDUE";
-        }
-
         if ("PENDING".equals(status)) {
           pendingMembers.add(member);
         } else if ("OVERDUE".equals(status)) {
@@ -292,15 +287,16 @@ public class ChatbotService {
   }
 
   /**
-   * ✅ 회비 통계 - FeeService/DashboardService와 완전히 동일한 로직
+   * ✅ 회비 통계 - PaymentStatisticsService 집계 사용
    */
   private ChatResponseDto getPaymentStatistics(Long groupId) {
     Group group = groupService.findByGroupId(groupId);
 
-    // ✅ 핵심: 실제 그룹 멤버 목록 조회 (Payment 개수 X)
-    List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
+    // ✅ 현재 월 기준 통계 (FeeService/PaymentCycleService와 같은 집계)
+    String currentPeriod = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+    PaymentStatsDto stats = paymentStatisticsService.getStats(groupId, currentPeriod);
 
-    if (members.isEmpty()) {
+    if (stats.totalMembers() == 0) {
       return new ChatResponseDto(
           "아직 등록된 회원이 없습니다.",
           "text",
@@ -308,59 +304,14 @@ public class ChatbotService {
       );
     }
 
-    // ✅ 현재 월 기준 Payment만 조회
-    String currentPeriod = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-    List<Payment> payments = paymentRepository.findByGroupIdAndPaymentPeriod(groupId, currentPeriod);
-
-    // ✅ memberId -> Payment 매핑
-    Map<Long, Payment> paymentMap = payments.stream()
-                                            .collect(Collectors.toMap(
-                                                p -> p.getGroupMember().getId(),
-                                                p -> p,
-                                                (p1, p2) -> p1
-                                            ));
-
-    LocalDateTime now = LocalDateTime.now();
-
-    // ✅ 멤버별 상태 계산 (FeeService와 동일)
-    int paidCount = 0;
-    int pendingCount = 0;
-    int overdueCount = 0;
-    long totalCollected = 0;
-
-    for (GroupMember member : members) {
-      Payment payment = paymentMap.get(member.getId());
-
-      if (payment == null) {
-        // Payment 레코드가 없으면 PENDING
-        pendingCount++;
-      } else {
-        String status = payment.getStatus();
-
-        // PENDING이면서 마감일이 지났으면 OVERDUE
-        if ("PENDING".equals(status) && payment.getDueDate() != null
-            && payment.getDueDate().isBefore(now)) {
-          status = "OVERDUE";
-        }
-
-        switch (status) {
-          case "PAID":
-            paidCount++;
-            totalCollected += payment.getAmount().longValue();
-            break;
-          case "OVERDUE":
-            overdueCount++;
-            break;
-          default:  // PENDING
-            pendingCount++;
-            break;
-        }
-      }
-    }
+    int paidCount = stats.paidCount();
+    int pendingCount = stats.pendingCount();
+    int overdueCount = stats.overdueCount();
+    long totalCollected = stats.collectedAmount();
 
     // ✅ 핵심: totalMembers = 실제 멤버 수 (Payment 개수 X)
-    int totalMembers = members.size();
-    int unpaidMembers = totalMembers - paidCount;
+    int totalMembers = stats.totalMembers();
+    int unpaidMembers = stats.unpaidCount();
 
     // ✅ 목표 금액 = 회비 × 실제 멤버 수
     long targetAmount = (long) group.getFee() * totalMembers;
@@ -369,7 +320,7 @@ public class ChatbotService {
     long remainingAmount = targetAmount - totalCollected;
 
     // ✅ 납부율 = (납부 인원 / 총 인원) × 100
-    int paymentRate = totalMembers == 0 ? 0 : (paidCount * 100) / totalMembers;
+    int paymentRate = stats.paymentRate();
 
     log.info("통계 계산 완료 - period: {}, 멤버: {}명, 납부: {}명, 미납: {}명, 연체: {}명, 납부율: {}%",
         currentPeriod, totalMembers, paidCount, pendingCount, overdueCount, paymentRate);
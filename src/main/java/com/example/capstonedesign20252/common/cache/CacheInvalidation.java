@@ -0,0 +1,43 @@
+package com.example.capstonedesign20252.common.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 캐시 무효화 메시지 (각 노드가 id 순으로 폴링)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "cache_invalidation",
+    indexes = @Index(name = "idx_cache_invalidation_created", columnList = "created_at"))
+public class CacheInvalidation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "node_id", nullable = false, length = 36)
+  private String nodeId;
+
+  @Column(name = "group_id", nullable = false)
+  private Long groupId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  public CacheInvalidation(String nodeId, Long groupId) {
+    this.nodeId = nodeId;
+    this.groupId = groupId;
+    this.createdAt = LocalDateTime.now();
+  }
+}
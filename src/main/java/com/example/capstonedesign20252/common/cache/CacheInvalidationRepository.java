@@ -0,0 +1,24 @@
+package com.example.capstonedesign20252.common.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+  @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+  Long findMaxId();
+
+  @Query("SELECT c FROM CacheInvalidation c WHERE c.id > :afterId ORDER BY c.id ASC")
+  List<CacheInvalidation> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :before")
+  int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,26 @@
+package com.example.capstonedesign20252.common.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노드 간 그룹 캐시 무효화 메시지 전달
+ */
+public interface CacheInvalidationTransport {
+
+  /**
+   * 다른 노드에 그룹 캐시 무효화 알림
+   */
+  void send(String nodeId, Collection<Long> groupIds);
+
+  /**
+   * 지난 수신 이후 다른 노드가 보낸 무효화 대상 그룹
+   */
+  List<Long> receive(String nodeId);
+
+  /**
+   * 보관 기간이 지난 메시지 정리
+   */
+  default void purge() {
+  }
+}
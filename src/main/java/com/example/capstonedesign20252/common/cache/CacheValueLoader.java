@@ -0,0 +1,13 @@
+package com.example.capstonedesign20252.common.cache;
+
+/**
+ * 캐시 항목 재계산기 (refreshAfterWrite 백그라운드 갱신용)
+ *
+ * - 캐시 어노테이션을 거치지 않고 값을 직접 계산해야 함 (같은 캐시 재진입 금지)
+ */
+public interface CacheValueLoader {
+
+  String cacheName();
+
+  Object load(Object key);
+}
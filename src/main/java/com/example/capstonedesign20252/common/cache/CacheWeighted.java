@@ -0,0 +1,9 @@
+package com.example.capstonedesign20252.common.cache;
+
+/**
+ * 캐시 가중치 (대략적인 내부 객체 수), 구현하지 않은 값은 1
+ */
+public interface CacheWeighted {
+
+  int cacheWeight();
+}
@@ -0,0 +1,28 @@
+package com.example.capstonedesign20252.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.cluster")
+public class ClusterCacheProperties {
+
+  /**
+   * 무효화 메시지 전달 방식 (jdbc: 공유 DB 테이블 폴링, memory: 단일 프로세스/테스트용)
+   */
+  private String transport = "jdbc";
+
+  /**
+   * 한 번에 읽을 최대 메시지 수
+   */
+  private int pollBatchSize = 500;
+
+  /**
+   * 메시지 보관 시간 (분)
+   */
+  private int retentionMinutes = 10;
+}
@@ -0,0 +1,47 @@
+package com.example.capstonedesign20252.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내부 전달 (단일 인스턴스 실행, 여러 노드를 흉내 내는 테스트용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.cluster", name = "transport", havingValue = "memory")
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+  private final List<Message> messages = new ArrayList<>();
+  private final Map<String, Integer> cursors = new HashMap<>();
+
+  @Override
+  public synchronized void send(String nodeId, Collection<Long> groupIds) {
+    groupIds.forEach(groupId -> messages.add(new Message(nodeId, groupId)));
+  }
+
+  @Override
+  public synchronized List<Long> receive(String nodeId) {
+    int from = cursors.getOrDefault(nodeId, 0);
+    cursors.put(nodeId, messages.size());
+    return messages.subList(from, messages.size()).stream()
+                   .filter(m -> !m.nodeId().equals(nodeId))
+                   .map(Message::groupId)
+                   .distinct()
+                   .toList();
+  }
+
+  // 모든 노드가 읽은 메시지 제거
+  @Override
+  public synchronized void purge() {
+    int min = cursors.values().stream().min(Integer::compare).orElse(0);
+    messages.subList(0, min).clear();
+    cursors.replaceAll((nodeId, cursor) -> cursor - min);
+  }
+
+  private record Message(String nodeId, Long groupId) {
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.capstonedesign20252.common.cache;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * cache_invalidation 테이블 기반 전달
+ *
+ * - 보내는 쪽은 모아둔 그룹을 한 트랜잭션에 INSERT
+ * - 받는 쪽은 마지막으로 읽은 id 이후만 조회 (시작 시점 이전 메시지는 무시)
+ * - 커밋 순서가 id 순서와 어긋나 놓친 메시지는 캐시 refreshAfterWrite/TTL로 보정
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cache.cluster", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+  private final CacheInvalidationRepository repository;
+  private final ClusterCacheProperties properties;
+  private final TransactionTemplate requiresNewTemplate;
+
+  // 폴링 스레드에서만 접근
+  private Long lastId;
+
+  public JdbcCacheInvalidationTransport(CacheInvalidationRepository repository,
+      ClusterCacheProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.properties = properties;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public void send(String nodeId, Collection<Long> groupIds) {
+    requiresNewTemplate.executeWithoutResult(status -> repository.saveAll(
+        groupIds.stream().map(groupId -> new CacheInvalidation(nodeId, groupId)).toList()));
+  }
+
+  @Override
+  public List<Long> receive(String nodeId) {
+    if (lastId == null) {
+      lastId = repository.findMaxId();
+      return List.of();
+    }
+
+    List<CacheInvalidation> messages = repository.findAfter(lastId, PageRequest.of(0, properties.getPollBatchSize()));
+    if (messages.isEmpty()) {
+      return List.of();
+    }
+    lastId = messages.get(messages.size() - 1).getId();
+    return messages.stream()
+                   .filter(m -> !m.getNodeId().equals(nodeId))
+                   .map(CacheInvalidation::getGroupId)
+                   .distinct()
+                   .toList();
+  }
+
+  @Override
+  public void purge() {
+    Integer deleted = requiresNewTemplate.execute(status -> repository.deleteCreatedBefore(
+        LocalDateTime.now().minusMinutes(properties.getRetentionMinutes())));
+    if (deleted != null && deleted > 0) {
+      log.debug("캐시 무효화 메시지 정리 - {}건", deleted);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.capstonedesign20252.common.event;
+
+public record CycleClosedEvent(
+    Long groupId,
+    Long cycleId,
+    String period
+) implements GroupDomainEvent {
+}
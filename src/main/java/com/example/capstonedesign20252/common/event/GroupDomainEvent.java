@@ -0,0 +1,12 @@
+package com.example.capstonedesign20252.common.event;
+
+/**
+ * 그룹 회비 상태를 바꾸는 도메인 이벤트
+ *
+ * 트랜잭션 안에서 ApplicationEventPublisher로 발행하고,
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT, fallbackExecution = true)로 커밋 후에 처리
+ */
+public interface GroupDomainEvent {
+
+  Long groupId();
+}
@@ -0,0 +1,7 @@
+package com.example.capstonedesign20252.common.event;
+
+public record MemberRemovedEvent(
+    Long groupId,
+    Long memberId
+) implements GroupDomainEvent {
+}
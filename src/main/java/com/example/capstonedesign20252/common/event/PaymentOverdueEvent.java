@@ -0,0 +1,11 @@
+package com.example.capstonedesign20252.common.event;
+
+/**
+ * 수금 기간 종료로 미납 결제가 연체 처리됨 (count: 연체 처리 건수)
+ */
+public record PaymentOverdueEvent(
+    Long groupId,
+    String period,
+    int count
+) implements GroupDomainEvent {
+}
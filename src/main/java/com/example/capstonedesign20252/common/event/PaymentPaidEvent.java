@@ -0,0 +1,17 @@
+package com.example.capstonedesign20252.common.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제가 납부 처리됨
+ * (activeCycle: 진행 중인 수금 기간의 결제로 매칭됨 → 종료된 기간 스냅샷 정정 대상 아님,
+ *  수동 확인처럼 기간 상태를 모르면 false)
+ */
+public record PaymentPaidEvent(
+    Long groupId,
+    Long paymentId,
+    String period,
+    BigDecimal amount,
+    boolean activeCycle
+) implements GroupDomainEvent {
+}
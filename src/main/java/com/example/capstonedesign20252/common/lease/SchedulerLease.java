@@ -0,0 +1,36 @@
+package com.example.capstonedesign20252.common.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행할 작업의 점유 기록 (작업 이름당 한 행)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+  @Id
+  @Column(name = "name", length = 100)
+  private String name;
+
+  @Column(name = "owner", nullable = false, length = 36)
+  private String owner;
+
+  @Column(name = "lease_until", nullable = false)
+  private LocalDateTime leaseUntil;
+
+  public SchedulerLease(String name, String owner, LocalDateTime leaseUntil) {
+    this.name = name;
+    this.owner = owner;
+    this.leaseUntil = leaseUntil;
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.capstonedesign20252.common.lease;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+  // 만료됐거나 내가 가진 점유만 가져옴 (조건부 UPDATE라 동시에 시도해도 한 곳만 성공)
+  @Modifying
+  @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leaseUntil = :until " +
+      "WHERE l.name = :name AND (l.leaseUntil < :now OR l.owner = :owner)")
+  int acquire(@Param("name") String name,
+      @Param("owner") String owner,
+      @Param("until") LocalDateTime until,
+      @Param("now") LocalDateTime now);
+
+  // save()는 id가 지정된 엔티티를 merge하므로 다른 인스턴스가 먼저 만든 행을 덮어쓸 수 있음 (항상 INSERT)
+  @Modifying
+  @Query("INSERT INTO SchedulerLease (name, owner, leaseUntil) VALUES (:name, :owner, :until)")
+  int create(@Param("name") String name,
+      @Param("owner") String owner,
+      @Param("until") LocalDateTime until);
+
+  @Modifying
+  @Query("UPDATE SchedulerLease l SET l.leaseUntil = :now WHERE l.name = :name AND l.owner = :owner")
+  int release(@Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,62 @@
+package com.example.capstonedesign20252.common.lease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 행 기반 작업 점유 (scale-out 시 스케줄 작업을 한 인스턴스에서만 실행)
+ *
+ * - 점유는 leaseDuration 뒤 자동 만료되므로 실행 중 인스턴스가 죽어도 다음 주기에 다른 인스턴스가 가져감
+ * - 점유 시도/해제는 각각 별도 트랜잭션
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseService {
+
+  private final SchedulerLeaseRepository schedulerLeaseRepository;
+  private final TransactionTemplate requiresNewTemplate;
+  private final String owner = UUID.randomUUID().toString();
+
+  public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+      PlatformTransactionManager transactionManager) {
+    this.schedulerLeaseRepository = schedulerLeaseRepository;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public boolean tryAcquire(String name, Duration leaseDuration) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime until = now.plus(leaseDuration);
+
+    Integer updated = requiresNewTemplate.execute(status -> schedulerLeaseRepository.acquire(name, owner, until, now));
+    if (updated != null && updated > 0) {
+      return true;
+    }
+
+    // 처음 실행하는 작업이면 행 생성 (동시에 만들면 PK 충돌로 한 곳만 성공)
+    try {
+      Boolean created = requiresNewTemplate.execute(status -> {
+        if (schedulerLeaseRepository.existsById(name)) {
+          return false;
+        }
+        return schedulerLeaseRepository.create(name, owner, until) > 0;
+      });
+      return Boolean.TRUE.equals(created);
+    } catch (DataIntegrityViolationException e) {
+      log.debug("작업 점유 경합 - name: {}", name);
+      return false;
+    }
+  }
+
+  public void release(String name) {
+    requiresNewTemplate.executeWithoutResult(status ->
+        schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+  }
+}
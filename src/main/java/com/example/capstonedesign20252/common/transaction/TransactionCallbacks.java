@@ -0,0 +1,26 @@
+package com.example.capstonedesign20252.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionCallbacks {
+
+  private TransactionCallbacks() {
+  }
+
+  /**
+   * 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+   */
+  public static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
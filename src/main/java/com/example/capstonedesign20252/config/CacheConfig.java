@@ -1,23 +1,60 @@
 package com.example.capstonedesign20252.config;
 
+import com.example.capstonedesign20252.common.cache.CacheValueLoader;
+import com.example.capstonedesign20252.common.cache.CacheWeighted;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * 캐시별 Caffeine 설정
+ *
+ * - 크기는 항목 수가 아니라 CacheWeighted 가중치 합으로 제한
+ * - refreshAfterWrite가 있으면 만료 전 조회 시 기존 값을 바로 돌려주고 CacheValueLoader로 백그라운드 재계산
+ * - 미스 시 동시 조회는 @Cacheable(sync = true)로 한 번만 계산
+ * - recordStats 켜둠 → actuator가 cache.gets, cache.evictions 등 메트릭으로 등록
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+  public static final List<String> CACHE_NAMES = List.of("dashboard", "groupStats", "feeSnapshot");
+
   @Bean
-  public CacheManager cacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager("dashboard", "groupStats");
-    cacheManager.setCaffeine(Caffeine.newBuilder()
-        .expireAfterWrite(10, TimeUnit.MINUTES)
-        .maximumSize(100));
+  public CacheManager cacheManager(CacheSpecProperties properties, ObjectProvider<CacheValueLoader> loaders) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setAllowNullValues(false);
+    for (String name : CACHE_NAMES) {
+      CacheSpecProperties.Spec spec = properties.specOf(name);
+      Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                                                 .maximumWeight(spec.getMaximumWeight())
+                                                 .weigher((Object key, Object value) -> value instanceof CacheWeighted weighted
+                                                     ? Math.max(1, weighted.cacheWeight()) : 1)
+                                                 .expireAfterWrite(spec.getExpireAfterWrite())
+                                                 .recordStats();
+
+      if (spec.getRefreshAfterWrite() != null) {
+        builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        cacheManager.registerCustomCache(name, builder.build(refreshLoader(name, loaders)));
+      } else {
+        cacheManager.registerCustomCache(name, builder.build());
+      }
+    }
     return cacheManager;
   }
+
+  // 로더 빈은 캐시 매니저에 의존하므로 실제 갱신 시점에 찾음
+  private static CacheLoader<Object, Object> refreshLoader(String name, ObjectProvider<CacheValueLoader> loaders) {
+    return key -> loaders.orderedStream()
+                         .filter(loader -> loader.cacheName().equals(name))
+                         .findFirst()
+                         .orElseThrow(() -> new IllegalStateException("캐시 로더가 없습니다: " + name))
+                         .load(key);
+  }
 }
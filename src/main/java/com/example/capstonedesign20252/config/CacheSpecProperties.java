@@ -0,0 +1,45 @@
+package com.example.capstonedesign20252.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+  /**
+   * 캐시 이름별 설정 (없으면 기본값)
+   */
+  private Map<String, Spec> specs = new HashMap<>();
+
+  public Spec specOf(String cacheName) {
+    return specs.getOrDefault(cacheName, new Spec());
+  }
+
+  @Getter
+  @Setter
+  public static class Spec {
+
+    /**
+     * 최대 가중치 합 (CacheWeighted 기준)
+     */
+    private long maximumWeight = 10_000;
+
+    /**
+     * 쓰기 후 만료 (이벤트로 바로 삭제되므로 안전망 용도)
+     */
+    private Duration expireAfterWrite = Duration.ofHours(1);
+
+    /**
+     * 쓰기 후 이 시간이 지나면 다음 조회 때 기존 값을 돌려주고 백그라운드에서 재계산 (null이면 사용 안 함)
+     */
+    private Duration refreshAfterWrite;
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.capstonedesign20252.config;
+
+import com.example.capstonedesign20252.payment.config.PaymentIngestionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 입금 알림 배치 요청 본문 크기 제한 + Content-Encoding: gzip 해제
+ * (입금 알림 배치 전송 시 포워더가 본문을 압축해서 보냄)
+ *
+ * - 인증 없이 열린 경로라 본문(압축이면 푼 크기)을 maxBatchBodySize까지만 읽고 넘으면 413
+ * - JSON 파싱 전에 다 읽어 두고 메모리 본문으로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+  private static final String BATCH_PATH = "/api/payments/log/batch";
+
+  private final PaymentIngestionProperties ingestionProperties;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long limit = ingestionProperties.getMaxBatchBodySize().toBytes();
+    if (request.getContentLengthLong() > limit) {
+      reject(response, request.getContentLengthLong(), limit);
+      return;
+    }
+
+    boolean gzip = isGzip(request);
+    byte[] body;
+    try (InputStream in = gzip ? new GZIPInputStream(request.getInputStream()) : request.getInputStream()) {
+      body = in.readNBytes((int) Math.min(limit + 1, Integer.MAX_VALUE - 8));
+    } catch (ZipException e) {
+      log.warn("[배치 수신 거부] gzip 본문 오류: {}", e.getMessage());
+      response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+      return;
+    }
+    if (body.length > limit) {
+      reject(response, body.length, limit);
+      return;
+    }
+
+    filterChain.doFilter(new CachedBodyRequestWrapper(request, body, gzip), response);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equalsIgnoreCase(request.getMethod()) || !BATCH_PATH.equals(request.getRequestURI());
+  }
+
+  private static boolean isGzip(HttpServletRequest request) {
+    String encoding = request.getHeader("Content-Encoding");
+    return encoding != null && encoding.toLowerCase().contains("gzip");
+  }
+
+  private static void reject(HttpServletResponse response, long size, long limit) {
+    log.warn("[배치 수신 거부] 본문 크기 초과: {}바이트 이상 (최대 {}바이트)", size, limit);
+    response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+  }
+
+  private static class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean decoded;
+
+    CachedBodyRequestWrapper(HttpServletRequest request, byte[] body, boolean decoded) {
+      super(request);
+      this.body = body;
+      this.decoded = decoded;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) {
+          return in.read(buffer, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        // 본문이 이미 메모리에 있으므로 바로 읽기 가능 + 끝까지 읽으면 완료 통지
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+      return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      if ("Content-Length".equalsIgnoreCase(name)) {
+        return String.valueOf(body.length);
+      }
+      if (decoded && "Content-Encoding".equalsIgnoreCase(name)) {
+        return null;
+      }
+      return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      if ("Content-Length".equalsIgnoreCase(name) || (decoded && "Content-Encoding".equalsIgnoreCase(name))) {
+        String value = getHeader(name);
+        return value == null ? Collections.emptyEnumeration() : Collections.enumeration(Collections.singletonList(value));
+      }
+      return super.getHeaders(name);
+    }
+  }
+}
@@ -1,11 +1,36 @@
 package com.example.capstonedesign20252.dashboard;
 
 import com.example.capstonedesign20252.dashboard.domain.Dashboard;
+import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DashboardRepository extends JpaRepository<Dashboard, Long> {
-  Optional<Dashboard> findByGroupId(Long groupId);
+  @Query("SELECT d FROM Dashboard d WHERE d.group.id = :groupId")
+  List<Dashboard> findByGroupId(@Param("groupId") Long groupId);
+
+  @Query("SELECT d FROM Dashboard d WHERE d.group.id = :groupId AND d.period = :period")
+  Optional<Dashboard> findByGroupIdAndPeriod(@Param("groupId") Long groupId,
+      @Param("period") String period);
+
+  // 재계산 중 납부 증분과 겹치지 않도록 그룹 집계 행 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT d FROM Dashboard d WHERE d.group.id = :groupId")
+  List<Dashboard> findByGroupIdForUpdate(@Param("groupId") Long groupId);
+
+  // 미납 → 납부 1건 반영 (집계 행이 없거나 어긋나 있으면 0 반환)
+  @Modifying
+  @Query("UPDATE Dashboard d SET d.paidCount = d.paidCount + 1, d.unpaidCount = d.unpaidCount - 1, " +
+      "d.paidAmount = d.paidAmount + :amount " +
+      "WHERE d.group.id = :groupId AND d.period = :period AND d.unpaidCount > 0")
+  int incrementPaid(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("amount") int amount);
 }
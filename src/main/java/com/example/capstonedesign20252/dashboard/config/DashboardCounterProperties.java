@@ -0,0 +1,23 @@
+package com.example.capstonedesign20252.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dashboard.counters")
+public class DashboardCounterProperties {
+
+  /**
+   * 전체 재계산 시 병렬 스레드 수
+   */
+  private int rebuildParallelism = 4;
+
+  /**
+   * 시작 시 전체 그룹 집계 재계산 (집계가 어긋났을 때 복구용)
+   */
+  private boolean rebuildOnStartup = false;
+}
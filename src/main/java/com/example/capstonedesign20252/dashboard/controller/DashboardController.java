@@ -1,6 +1,7 @@
 package com.example.capstonedesign20252.dashboard.controller;
 
 import com.example.capstonedesign20252.dashboard.dto.DashboardResponseDto;
+import com.example.capstonedesign20252.dashboard.service.DashboardCounterService;
 import com.example.capstonedesign20252.dashboard.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
   private final DashboardService dashboardService;
+  private final DashboardCounterService dashboardCounterService;
 
   @GetMapping("/{groupId}/dashboard")
   public ResponseEntity<DashboardResponseDto> getDashboard(@PathVariable Long groupId) {
@@ -27,4 +29,11 @@ public class DashboardController {
     dashboardService.evictDashboardCache(groupId);
     return ResponseEntity.ok().build();
   }
-}
\ No newline at end of file
+
+  @PostMapping("/{groupId}/dashboard/rebuild")
+  public ResponseEntity<Void> rebuildDashboard(@PathVariable Long groupId) {
+    log.info("대시보드 집계 재계산 요청 - groupId: {}", groupId);
+    dashboardCounterService.rebuild(groupId);
+    return ResponseEntity.ok().build();
+  }
+}
@@ -9,14 +9,21 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 그룹 + 수금 기간별 납부 집계 (납부 이벤트마다 증분 갱신)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "dashboard",
+    uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_group_period", columnNames = {"group_id", "period"}))
 public class Dashboard {
 
   @Id
@@ -27,6 +34,9 @@ public class Dashboard {
   @ManyToOne(fetch = FetchType.LAZY)
   private Group group;
 
+  @Column(name = "period", nullable = false, length = 7)
+  private String period;
+
   @Column(name = "paid_count", nullable = false)
   private Integer paidCount = 0;
 
@@ -36,14 +46,26 @@ public class Dashboard {
   @Column(name = "total_fee", nullable = false)
   private Integer totalFee = 0;
 
+  @Column(name = "paid_amount", nullable = false)
+  private Integer paidAmount = 0;
+
   @Builder
-  public Dashboard(Group group, Integer paidCount, Integer unpaidCount, Integer totalFee){
+  public Dashboard(Group group, String period, Integer paidCount, Integer unpaidCount, Integer totalFee,
+      Integer paidAmount){
     this.group = group;
+    this.period = period;
+    reset(paidCount, unpaidCount, totalFee, paidAmount);
+  }
+
+  // 재계산 결과로 덮어쓰기
+  public void reset(Integer paidCount, Integer unpaidCount, Integer totalFee, Integer paidAmount) {
     if(paidCount < 0) throw new IllegalArgumentException("paidCount가 음수입니다.");
     this.paidCount = paidCount;
     if(unpaidCount < 0) throw new IllegalArgumentException("unpaidCount가 음수입니다.");
     this.unpaidCount = unpaidCount;
     if(totalFee < 0) throw new IllegalArgumentException("totalFee가 음수입니다.");
     this.totalFee = totalFee;
+    if(paidAmount < 0) throw new IllegalArgumentException("paidAmount가 음수입니다.");
+    this.paidAmount = paidAmount;
   }
 }
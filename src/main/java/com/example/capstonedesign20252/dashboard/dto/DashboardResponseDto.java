@@ -1,5 +1,6 @@
 package com.example.capstonedesign20252.dashboard.dto;
 
+import com.example.capstonedesign20252.common.cache.CacheWeighted;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,7 +10,7 @@ import java.util.List;
 
 @Getter
 @Builder
-public class DashboardResponseDto {
+public class DashboardResponseDto implements CacheWeighted {
   private Long groupId;
   private String groupName;
   private Integer fee;
@@ -23,6 +24,11 @@ public class DashboardResponseDto {
   private List<RecentPaymentDto> recentPayments;
   private LocalDateTime lastUpdated;
 
+  @Override
+  public int cacheWeight() {
+    return 1 + (recentPayments == null ? 0 : recentPayments.size());
+  }
+
   @Getter
   @Builder
   public static class RecentPaymentDto {
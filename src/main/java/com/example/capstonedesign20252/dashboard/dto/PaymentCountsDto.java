@@ -0,0 +1,12 @@
+package com.example.capstonedesign20252.dashboard.dto;
+
+import java.math.BigDecimal;
+
+public record PaymentCountsDto(
+    String period,
+    Long paidCount,
+    Long unpaidCount,
+    BigDecimal totalAmount,
+    BigDecimal paidAmount
+) {
+}
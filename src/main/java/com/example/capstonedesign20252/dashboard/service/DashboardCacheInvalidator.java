@@ -0,0 +1,106 @@
+package com.example.capstonedesign20252.dashboard.service;
+
+import com.example.capstonedesign20252.common.cache.CacheInvalidationTransport;
+import com.example.capstonedesign20252.common.event.GroupDomainEvent;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
+import com.example.capstonedesign20252.payment.service.PendingPaymentIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 그룹 캐시 (대시보드, 납부 통계) 무효화
+ *
+ * - 납부/연체/멤버/수금 기간 변경 커밋 후 이 노드의 캐시는 바로 삭제
+ * - 다른 노드에는 무효화할 그룹을 모아서 주기적으로 전달, 같은 주기에 다른 노드가 보낸 그룹을 받아서 삭제
+ *   (받은 그룹은 입금자명 인덱스도 삭제, 이 노드 변경분은 인덱스가 이벤트로 직접 무효화)
+ */
+@Slf4j
+@Component
+public class DashboardCacheInvalidator {
+
+  private final CacheManager cacheManager;
+  private final PaymentStatisticsService paymentStatisticsService;
+  private final PendingPaymentIndex pendingPaymentIndex;
+  private final CacheInvalidationTransport transport;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Set<Long> outgoing = ConcurrentHashMap.newKeySet();
+
+  public DashboardCacheInvalidator(CacheManager cacheManager,
+      PaymentStatisticsService paymentStatisticsService,
+      PendingPaymentIndex pendingPaymentIndex,
+      CacheInvalidationTransport transport) {
+    this.cacheManager = cacheManager;
+    this.paymentStatisticsService = paymentStatisticsService;
+    this.pendingPaymentIndex = pendingPaymentIndex;
+    this.transport = transport;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onGroupChanged(GroupDomainEvent event) {
+    evict(event.groupId());
+  }
+
+  /**
+   * 이 노드 캐시 삭제 + 다른 노드 전달 예약
+   */
+  public void evict(Long groupId) {
+    evictLocal(groupId);
+    outgoing.add(groupId);
+  }
+
+  @Scheduled(fixedDelayString = "${app.cache.cluster.poll-interval-ms:1000}")
+  public void sync() {
+    try {
+      if (!outgoing.isEmpty()) {
+        List<Long> groupIds = new ArrayList<>(outgoing);
+        outgoing.removeAll(groupIds);
+        try {
+          transport.send(nodeId, groupIds);
+        } catch (RuntimeException e) {
+          // 전송 실패 시 다음 주기에 다시 전송
+          outgoing.addAll(groupIds);
+          throw e;
+        }
+      }
+      List<Long> received = transport.receive(nodeId);
+      received.forEach(this::evictReceived);
+      if (!received.isEmpty()) {
+        log.debug("다른 노드 캐시 무효화 반영 - 그룹: {}", received);
+      }
+    } catch (Exception e) {
+      log.warn("캐시 무효화 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.cache.cluster.purge-interval-ms:600000}")
+  public void purge() {
+    try {
+      transport.purge();
+    } catch (Exception e) {
+      log.warn("캐시 무효화 메시지 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  private void evictReceived(Long groupId) {
+    evictLocal(groupId);
+    pendingPaymentIndex.evict(groupId);
+  }
+
+  private void evictLocal(Long groupId) {
+    Cache dashboard = cacheManager.getCache("dashboard");
+    if (dashboard != null) {
+      dashboard.evict(groupId);
+    }
+    paymentStatisticsService.evict(groupId);
+  }
+}
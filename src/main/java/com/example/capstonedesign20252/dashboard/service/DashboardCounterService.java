@@ -0,0 +1,250 @@
+package com.example.capstonedesign20252.dashboard.service;
+
+import com.example.capstonedesign20252.common.event.CycleStartedEvent;
+import com.example.capstonedesign20252.common.event.GroupDomainEvent;
+import com.example.capstonedesign20252.common.event.MemberAddedEvent;
+import com.example.capstonedesign20252.common.event.MemberRemovedEvent;
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.common.transaction.TransactionCallbacks;
+import com.example.capstonedesign20252.dashboard.DashboardRepository;
+import com.example.capstonedesign20252.dashboard.config.DashboardCounterProperties;
+import com.example.capstonedesign20252.dashboard.domain.Dashboard;
+import com.example.capstonedesign20252.dashboard.dto.PaymentCountsDto;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import com.example.capstonedesign20252.payment.repository.PaymentArchiveRepository;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 그룹 + 수금 기간별 대시보드 집계 (Dashboard) 유지
+ *
+ * - 납부: 같은 트랜잭션 안에서 집계 행 증분 UPDATE (커밋 전)
+ * - 수금 기간 시작, 멤버 추가/삭제: 결제 건이 생기거나 지워지므로 커밋 후 그룹 단위 재계산
+ *   (재계산은 전용 스레드에서, 대기 중인 같은 그룹 요청은 한 번으로 합침)
+ * - 전체 재계산은 그룹을 나눠 fork-join으로 병렬 처리 (집계가 어긋났을 때 복구용)
+ */
+@Slf4j
+@Component
+public class DashboardCounterService {
+
+  private static final int REBUILD_BATCH = 8;
+
+  private final DashboardRepository dashboardRepository;
+  private final PaymentRepository paymentRepository;
+  private final PaymentArchiveRepository paymentArchiveRepository;
+  private final GroupRepository groupRepository;
+  private final DashboardCounterProperties properties;
+  private final DashboardCacheInvalidator cacheInvalidator;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate requiresNewTemplate;
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(new CustomizableThreadFactory("dashboard-counter-"));
+  private final Set<Long> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+  public DashboardCounterService(DashboardRepository dashboardRepository,
+      PaymentRepository paymentRepository,
+      PaymentArchiveRepository paymentArchiveRepository,
+      GroupRepository groupRepository,
+      DashboardCounterProperties properties,
+      DashboardCacheInvalidator cacheInvalidator,
+      PlatformTransactionManager transactionManager) {
+    this.dashboardRepository = dashboardRepository;
+    this.paymentRepository = paymentRepository;
+    this.paymentArchiveRepository = paymentArchiveRepository;
+    this.groupRepository = groupRepository;
+    this.properties = properties;
+    this.cacheInvalidator = cacheInvalidator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void onPaymentPaid(PaymentPaidEvent event) {
+    Integer updated = transactionTemplate.execute(status -> dashboardRepository.incrementPaid(
+        event.groupId(), event.period(), event.amount().intValue()));
+
+    if (updated == null || updated == 0) {
+      log.warn("대시보드 집계 행 없음, 재계산 예약 - groupId: {}, period: {}", event.groupId(), event.period());
+      TransactionCallbacks.afterCommit(() -> requestRebuild(event.groupId()));
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+      classes = {CycleStartedEvent.class, MemberAddedEvent.class, MemberRemovedEvent.class})
+  public void onPaymentsChanged(GroupDomainEvent event) {
+    requestRebuild(event.groupId());
+  }
+
+  /**
+   * 그룹 재계산 예약 (이미 대기 중이면 합침)
+   */
+  public void requestRebuild(Long groupId) {
+    if (pendingRebuilds.add(groupId)) {
+      executor.execute(() -> {
+        pendingRebuilds.remove(groupId);
+        try {
+          rebuild(groupId);
+        } catch (Exception e) {
+          log.error("대시보드 집계 재계산 실패 - groupId: {}", groupId, e);
+        }
+      });
+    }
+  }
+
+  /**
+   * 기간 집계 조회, 집계 행이 없으면 재계산 후 반환
+   */
+  public Optional<PaymentCountsDto> findOrRebuild(Long groupId, String period) {
+    Optional<PaymentCountsDto> counts = dashboardRepository.findByGroupIdAndPeriod(groupId, period)
+                                                           .map(DashboardCounterService::toCounts);
+    if (counts.isPresent()) {
+      return counts;
+    }
+    // 대시보드 캐시 계산 중에 호출되므로 캐시는 건드리지 않음
+    List<PaymentCountsDto> rebuilt = requiresNewTemplate.execute(status -> rebuildInTransaction(groupId));
+    return rebuilt.stream()
+                  .filter(c -> c.period().equals(period))
+                  .findFirst();
+  }
+
+  /**
+   * 그룹의 모든 기간 집계 재계산 (새 트랜잭션)
+   */
+  public List<PaymentCountsDto> rebuild(Long groupId) {
+    List<PaymentCountsDto> counts = requiresNewTemplate.execute(status -> rebuildInTransaction(groupId));
+    cacheInvalidator.evict(groupId);
+    return counts;
+  }
+
+  /**
+   * 전체 그룹 재계산 (fork-join 병렬), 재계산한 기간 수 반환
+   */
+  public int rebuildAll() {
+    List<Long> groupIds = groupRepository.findAllIds();
+    long startedAt = System.currentTimeMillis();
+
+    ForkJoinPool pool = new ForkJoinPool(properties.getRebuildParallelism());
+    try {
+      int periods = pool.invoke(new RebuildTask(groupIds, 0, groupIds.size()));
+      log.info("대시보드 집계 전체 재계산 완료 - 그룹: {}개, 기간: {}개, {}ms",
+          groupIds.size(), periods, System.currentTimeMillis() - startedAt);
+      return periods;
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    if (properties.isRebuildOnStartup()) {
+      executor.execute(() -> {
+        try {
+          rebuildAll();
+        } catch (Exception e) {
+          log.error("대시보드 집계 전체 재계산 실패", e);
+        }
+      });
+    }
+  }
+
+  private List<PaymentCountsDto> rebuildInTransaction(Long groupId) {
+    // 집계 행을 먼저 잠근 뒤 집계해야 그 사이 커밋된 납부 증분을 덮어쓰지 않음
+    Map<String, Dashboard> existing = new HashMap<>();
+    for (Dashboard dashboard : dashboardRepository.findByGroupIdForUpdate(groupId)) {
+      existing.put(dashboard.getPeriod(), dashboard);
+    }
+
+    List<PaymentCountsDto> counts = paymentRepository.countByGroupIdGroupByPeriod(groupId);
+    for (PaymentCountsDto c : counts) {
+      Dashboard dashboard = existing.remove(c.period());
+      if (dashboard == null) {
+        dashboardRepository.save(Dashboard.builder()
+                                          .group(groupRepository.getReferenceById(groupId))
+                                          .period(c.period())
+                                          .paidCount(c.paidCount().intValue())
+                                          .unpaidCount(c.unpaidCount().intValue())
+                                          .totalFee(c.totalAmount().intValue())
+                                          .paidAmount(c.paidAmount().intValue())
+                                          .build());
+      } else {
+        dashboard.reset(c.paidCount().intValue(), c.unpaidCount().intValue(),
+            c.totalAmount().intValue(), c.paidAmount().intValue());
+      }
+    }
+
+    // 결제가 모두 지워진 기간 (보관 테이블로 옮긴 기간은 집계 유지)
+    paymentArchiveRepository.findPeriodsByGroupId(groupId).forEach(existing::remove);
+    dashboardRepository.deleteAll(existing.values());
+    return counts;
+  }
+
+  private static PaymentCountsDto toCounts(Dashboard dashboard) {
+    return new PaymentCountsDto(dashboard.getPeriod(),
+        dashboard.getPaidCount().longValue(),
+        dashboard.getUnpaidCount().longValue(),
+        BigDecimal.valueOf(dashboard.getTotalFee()),
+        BigDecimal.valueOf(dashboard.getPaidAmount()));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private class RebuildTask extends RecursiveTask<Integer> {
+
+    private final List<Long> groupIds;
+    private final int from;
+    private final int to;
+
+    private RebuildTask(List<Long> groupIds, int from, int to) {
+      this.groupIds = groupIds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (to - from <= REBUILD_BATCH) {
+        int periods = 0;
+        for (int i = from; i < to; i++) {
+          Long groupId = groupIds.get(i);
+          try {
+            periods += rebuild(groupId).size();
+          } catch (Exception e) {
+            log.error("대시보드 집계 재계산 실패 - groupId: {}", groupId, e);
+          }
+        }
+        return periods;
+      }
+
+      int mid = (from + to) >>> 1;
+      RebuildTask left = new RebuildTask(groupIds, from, mid);
+      left.fork();
+      int right = new RebuildTask(groupIds, mid, to).compute();
+      return left.join() + right;
+    }
+  }
+}
@@ -1,15 +1,16 @@
 package com.example.capstonedesign20252.dashboard.service;
 
+import com.example.capstonedesign20252.common.cache.CacheValueLoader;
 import com.example.capstonedesign20252.dashboard.dto.DashboardResponseDto;
+import com.example.capstonedesign20252.dashboard.dto.PaymentCountsDto;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.repository.GroupRepository;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
-import com.example.capstonedesign20252.payment.domain.Payment;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,21 +18,41 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class DashboardServiceImpl implements DashboardService {
+public class DashboardServiceImpl implements DashboardService, CacheValueLoader {
+
+  private static final int RECENT_PAYMENT_LIMIT = 10;
 
   private final GroupRepository groupRepository;
   private final PaymentRepository paymentRepository;
   private final GroupMemberRepository groupMemberRepository;
+  private final DashboardCounterService dashboardCounterService;
+  private final DashboardCacheInvalidator dashboardCacheInvalidator;
 
   @Override
-  @Cacheable(value = "dashboard", key = "#groupId")
+  @Cacheable(value = "dashboard", key = "#groupId", sync = true)
   public DashboardResponseDto getDashBoard(Long groupId) {
+    return computeDashboard(groupId);
+  }
+
+  @Override
+  public String cacheName() {
+    return "dashboard";
+  }
+
+  // refreshAfterWrite 백그라운드 갱신
+  @Override
+  public Object load(Object key) {
+    return computeDashboard((Long) key);
+  }
+
+  private DashboardResponseDto computeDashboard(Long groupId) {
     log.info("대시보드 데이터 계산 시작 - groupId: {}", groupId);
 
     Group group = groupRepository.findById(groupId)
@@ -40,12 +61,12 @@ public class DashboardServiceImpl implements DashboardService {
     int actualMemberCount = (int) groupMemberRepository.countByGroupId(groupId);
 
     String currentPeriod = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-    List<Payment> payments = paymentRepository.findByGroupIdAndPaymentPeriod(groupId, currentPeriod);
+    Optional<PaymentCountsDto> counts = dashboardCounterService.findOrRebuild(groupId, currentPeriod);
 
-    log.info("조회 조건 - groupId: {}, period: {}, 멤버수: {}, Payment수: {}",
-        groupId, currentPeriod, actualMemberCount, payments.size());
+    log.info("조회 조건 - groupId: {}, period: {}, 멤버수: {}, 집계: {}",
+        groupId, currentPeriod, actualMemberCount, counts.orElse(null));
 
-    if (payments.isEmpty()) {
+    if (counts.isEmpty()) {
       log.info("Payment 데이터가 없습니다 - groupId: {}, 멤버 수: {}", groupId, actualMemberCount);
       return DashboardResponseDto.builder()
                                  .groupId(groupId)
@@ -65,19 +86,14 @@ public class DashboardServiceImpl implements DashboardService {
 
     int totalMembers = actualMemberCount;
 
-    // 납부 완료 인원 (현재 월 기준)
-    int paidMembers = (int) payments.stream()
-                                    .filter(p -> "PAID".equals(p.getStatus()))
-                                    .count();
+    // 납부 완료 인원 (현재 월 기준, 증분 집계)
+    int paidMembers = counts.get().paidCount().intValue();
     int unpaidMembers = totalMembers - paidMembers;
 
     BigDecimal totalAmount = BigDecimal.valueOf((long) group.getFee() * totalMembers);
 
     // 납부 완료 금액
-    BigDecimal paidAmount = payments.stream()
-                                    .filter(p -> "PAID".equals(p.getStatus()))
-                                    .map(Payment::getAmount)
-                                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal paidAmount = counts.get().paidAmount();
 
     BigDecimal unpaidAmount = totalAmount.subtract(paidAmount);
 
@@ -87,20 +103,17 @@ public class DashboardServiceImpl implements DashboardService {
         : 0.0;
 
     // 최근 납부 내역 (전체 기간에서 최근 10건)
-    List<Payment> allPayments = paymentRepository.findByGroupId(groupId);
-    List<DashboardResponseDto.RecentPaymentDto> recentPayments = allPayments.stream()
-                                                                            .filter(p -> "PAID".equals(p.getStatus()))
-                                                                            .filter(p -> p.getPaidAt() != null)
-                                                                            .sorted((p1, p2) -> p2.getPaidAt().compareTo(p1.getPaidAt()))
-                                                                            .limit(10)
-                                                                            .map(p -> DashboardResponseDto.RecentPaymentDto.builder()
-                                                                                                                           .paymentId(p.getId())
-                                                                                                                           .memberName(p.getGroupMember().getName())
-                                                                                                                           .amount(p.getAmount())
-                                                                                                                           .paidAt(p.getPaidAt())
-                                                                                                                           .status(p.getStatus())
-                                                                                                                           .build())
-                                                                            .collect(Collectors.toList());
+    List<DashboardResponseDto.RecentPaymentDto> recentPayments =
+        paymentRepository.findRecentPaidPayments(groupId, PageRequest.of(0, RECENT_PAYMENT_LIMIT))
+                         .stream()
+                         .map(p -> DashboardResponseDto.RecentPaymentDto.builder()
+                                                                        .paymentId(p.paymentId())
+                                                                        .memberName(p.memberName())
+                                                                        .amount(p.amount())
+                                                                        .paidAt(p.paidAt())
+                                                                        .status(p.status())
+                                                                        .build())
+                         .collect(Collectors.toList());
 
     log.info("대시보드 계산 완료 - 멤버: {}명, 납부: {}명, 미납: {}명, 납부율: {}%",
         totalMembers, paidMembers, unpaidMembers, Math.round(paymentRate * 100.0) / 100.0);
@@ -122,8 +135,8 @@ public class DashboardServiceImpl implements DashboardService {
   }
 
   @Override
-  @CacheEvict(value = "dashboard", key = "#groupId")
   public void evictDashboardCache(Long groupId) {
     log.info("대시보드 캐시 삭제 - groupId: {}", groupId);
+    dashboardCacheInvalidator.evict(groupId);
   }
 }
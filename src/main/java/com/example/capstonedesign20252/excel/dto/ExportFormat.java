@@ -0,0 +1,46 @@
+package com.example.capstonedesign20252.excel.dto;
+
+import com.example.capstonedesign20252.excel.service.CsvTabularWriter;
+import com.example.capstonedesign20252.excel.service.SxssfTabularWriter;
+import com.example.capstonedesign20252.excel.service.TabularWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public enum ExportFormat {
+
+  XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+  CSV("csv", "text/csv; charset=UTF-8");
+
+  private final String extension;
+  private final String contentType;
+
+  ExportFormat(String extension, String contentType) {
+    this.extension = extension;
+    this.contentType = contentType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public TabularWriter newWriter(OutputStream out, String sheetName) throws IOException {
+    return this == XLSX ? new SxssfTabularWriter(out, sheetName) : new CsvTabularWriter(out);
+  }
+
+  public static Optional<ExportFormat> from(String value) {
+    if (value == null || value.isBlank()) {
+      return Optional.of(XLSX);
+    }
+    for (ExportFormat format : values()) {
+      if (format.extension.equalsIgnoreCase(value)) {
+        return Optional.of(format);
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.capstonedesign20252.excel.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통장 거래내역 입금 한 줄 (rowNumber: 파일 기준 행 번호, 1부터)
+ */
+public record StatementRowDto(
+    int rowNumber,
+    LocalDateTime transactedAt,
+    String depositorName,
+    long amount
+) {
+}
@@ -0,0 +1,56 @@
+package com.example.capstonedesign20252.excel.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSV writer (UTF-8 BOM, RFC 4180 따옴표 처리)
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+  private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final BufferedWriter writer;
+
+  public CsvTabularWriter(OutputStream out) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+    writer.write('\uFEFF');
+  }
+
+  @Override
+  public void writeRow(Object... values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escape(values[i]));
+    }
+    writer.write("\r\n");
+  }
+
+  private static String escape(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value instanceof LocalDateTime dateTime ? dateTime.format(DATE_TIME_FORMAT) : value.toString();
+    // 스프레드시트에서 수식으로 해석되지 않도록
+    if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+      text = "'" + text;
+    }
+    if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    return text;
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.flush();
+  }
+}
@@ -1,24 +1,68 @@
 package com.example.capstonedesign20252.excel.service;
 
 import com.example.capstonedesign20252.excel.dto.MemberDataDto;
+import com.example.capstonedesign20252.excel.dto.StatementRowDto;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import javax.xml.parsers.ParserConfigurationException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 @Service
 @Slf4j
 public class ExcelParserService {
 
+  private static final List<DateTimeFormatter> DATE_TIME_FORMATS = List.of(
+      DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"),
+      DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss"),
+      DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"),
+      DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"),
+      DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm")
+  );
+
+  private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+      DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+      DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+      DateTimeFormatter.ofPattern("yyyy/MM/dd")
+  );
+
   public List<MemberDataDto> parseExcelFile(MultipartFile file) throws IOException {
     List<MemberDataDto> members = new ArrayList<>();
 
@@ -63,6 +107,215 @@ public class ExcelParserService {
     return members;
   }
 
+  /**
+   * 통장 거래내역 파싱 (.xlsx 또는 .csv, 첫 행은 헤더)
+   * A열: 거래일시, B열: 입금자명, C열: 입금액 (출금 등 입금액이 없는 행은 스킵)
+   *
+   * 수천 행 파일도 워크북 전체를 메모리에 올리지 않도록 행 단위로 읽음 (xlsx: SAX, csv: 스트림)
+   */
+  public List<StatementRowDto> parseStatementFile(MultipartFile file) throws IOException {
+    String filename = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+    List<StatementRowDto> rows = filename.endsWith(".csv")
+        ? parseStatementCsv(file)
+        : parseStatementXlsx(file);
+
+    log.info("거래내역 파싱 완료: {}, 입금 {}건", file.getOriginalFilename(), rows.size());
+    return rows;
+  }
+
+  private List<StatementRowDto> parseStatementXlsx(MultipartFile file) throws IOException {
+    List<StatementRowDto> rows = new ArrayList<>();
+
+    try (InputStream is = file.getInputStream()) {
+      OPCPackage pkg = OPCPackage.open(is);
+      try {
+        XSSFReader reader = new XSSFReader(pkg);
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new XSSFSheetXMLHandler(
+            reader.getStylesTable(),
+            new ReadOnlySharedStringsTable(pkg),
+            new StatementSheetHandler(rows),
+            new IsoDateFormatter(),
+            false));
+
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (sheets.hasNext()) {
+          try (InputStream sheet = sheets.next()) {
+            parser.parse(new InputSource(sheet));
+          }
+        }
+      } finally {
+        pkg.revert();
+      }
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException("엑셀 파일을 읽을 수 없습니다.", e);
+    }
+    return rows;
+  }
+
+  private List<StatementRowDto> parseStatementCsv(MultipartFile file) throws IOException {
+    try {
+      return parseStatementCsv(file, StandardCharsets.UTF_8);
+    } catch (CharacterCodingException e) {
+      // 은행 CSV는 대부분 MS949(EUC-KR)
+      log.info("UTF-8이 아닌 CSV - MS949로 다시 읽음: {}", file.getOriginalFilename());
+      return parseStatementCsv(file, Charset.forName("x-windows-949"));
+    }
+  }
+
+  private List<StatementRowDto> parseStatementCsv(MultipartFile file, Charset charset) throws IOException {
+    List<StatementRowDto> rows = new ArrayList<>();
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(),
+        charset.newDecoder()
+               .onMalformedInput(CodingErrorAction.REPORT)
+               .onUnmappableCharacter(CodingErrorAction.REPORT)))) {
+      String line;
+      int rowNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        rowNumber++;
+        if (rowNumber == 1) {
+          continue;
+        }
+        List<String> cells = splitCsvLine(line);
+        addStatementRow(rows, rowNumber,
+            cells.size() > 0 ? cells.get(0) : null,
+            cells.size() > 1 ? cells.get(1) : null,
+            cells.size() > 2 ? cells.get(2) : null);
+      }
+    }
+    return rows;
+  }
+
+  private static List<String> splitCsvLine(String line) {
+    List<String> cells = new ArrayList<>();
+    StringBuilder cell = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          cell.append('"');
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (c == ',' && !quoted) {
+        cells.add(cell.toString());
+        cell.setLength(0);
+      } else if (c != '\uFEFF') {
+        cell.append(c);
+      }
+    }
+    cells.add(cell.toString());
+    return cells;
+  }
+
+  private static void addStatementRow(List<StatementRowDto> rows, int rowNumber,
+      String transactedAt, String depositorName, String amount) {
+    if (depositorName == null || depositorName.isBlank()) {
+      return;
+    }
+
+    long parsedAmount = parseAmount(amount);
+    if (parsedAmount <= 0) {
+      return;
+    }
+    rows.add(new StatementRowDto(rowNumber, parseDateTime(transactedAt), depositorName.trim(), parsedAmount));
+  }
+
+  private static long parseAmount(String amount) {
+    if (amount == null) {
+      return 0;
+    }
+    StringBuilder digits = new StringBuilder();
+    for (char c : amount.toCharArray()) {
+      if (Character.isDigit(c) || c == '.' || c == '-') {
+        digits.append(c);
+      }
+    }
+    try {
+      return digits.isEmpty() ? 0 : new BigDecimal(digits.toString()).longValue();
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  // 알 수 없는 형식이면 null (납부 시각은 처리 시각으로 기록)
+  private static LocalDateTime parseDateTime(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    String trimmed = value.trim();
+    for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+      try {
+        return LocalDateTime.parse(trimmed, format);
+      } catch (DateTimeParseException ignored) {
+        // 다음 형식 시도
+      }
+    }
+    for (DateTimeFormatter format : DATE_FORMATS) {
+      try {
+        return LocalDate.parse(trimmed, format).atStartOfDay();
+      } catch (DateTimeParseException ignored) {
+        // 다음 형식 시도
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 시트 SAX 이벤트 → 거래내역 행
+   */
+  private static class StatementSheetHandler implements SheetContentsHandler {
+
+    private final List<StatementRowDto> rows;
+    private final String[] cells = new String[3];
+    private int rowNumber;
+    private int column;
+
+    private StatementSheetHandler(List<StatementRowDto> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      rowNumber = rowNum + 1;
+      column = -1;
+      cells[0] = cells[1] = cells[2] = null;
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (rowNum > 0) {
+        addStatementRow(rows, rowNumber, cells[0], cells[1], cells[2]);
+      }
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+      if (column < cells.length) {
+        cells[column] = formattedValue;
+      }
+    }
+  }
+
+  /**
+   * 날짜 셀은 표시 형식과 상관없이 ISO 형식(yyyy-MM-ddTHH:mm:ss)으로 변환
+   */
+  private static class IsoDateFormatter extends DataFormatter {
+
+    @Override
+    public String formatRawCellContents(double value, int formatIndex, String formatString) {
+      if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+        return DateUtil.getLocalDateTime(value).toString();
+      }
+      return super.formatRawCellContents(value, formatIndex, formatString);
+    }
+  }
+
   private String getCellValueAsString(Cell cell) {
     if (cell == null) {
       return null;
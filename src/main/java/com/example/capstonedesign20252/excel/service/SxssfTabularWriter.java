@@ -0,0 +1,77 @@
+package com.example.capstonedesign20252.excel.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * .xlsx writer (POI SXSSF)
+ *
+ * - 최근 WINDOW_SIZE 행만 메모리에 두고 나머지는 압축 임시 파일로 내림
+ * - 첫 행은 헤더 (굵게)
+ */
+public class SxssfTabularWriter implements TabularWriter {
+
+  private static final int WINDOW_SIZE = 100;
+
+  private final OutputStream out;
+  private final SXSSFWorkbook workbook;
+  private final SXSSFSheet sheet;
+  private final CellStyle headerStyle;
+  private final CellStyle dateTimeStyle;
+  private int rowIndex;
+
+  public SxssfTabularWriter(OutputStream out, String sheetName) {
+    this.out = out;
+    this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+    workbook.setCompressTempFiles(true);
+    this.sheet = workbook.createSheet(sheetName);
+
+    Font bold = workbook.createFont();
+    bold.setBold(true);
+    this.headerStyle = workbook.createCellStyle();
+    headerStyle.setFont(bold);
+
+    this.dateTimeStyle = workbook.createCellStyle();
+    dateTimeStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+  }
+
+  @Override
+  public void writeRow(Object... values) {
+    Row row = sheet.createRow(rowIndex);
+    for (int i = 0; i < values.length; i++) {
+      Cell cell = row.createCell(i);
+      Object value = values[i];
+      if (rowIndex == 0) {
+        cell.setCellStyle(headerStyle);
+      }
+      if (value instanceof Number number) {
+        cell.setCellValue(number instanceof BigDecimal decimal ? decimal.doubleValue() : number.doubleValue());
+      } else if (value instanceof LocalDateTime dateTime) {
+        cell.setCellValue(dateTime);
+        cell.setCellStyle(dateTimeStyle);
+      } else if (value != null) {
+        cell.setCellValue(value.toString());
+      }
+    }
+    rowIndex++;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      workbook.write(out);
+      out.flush();
+    } finally {
+      workbook.dispose();
+      workbook.close();
+    }
+  }
+}
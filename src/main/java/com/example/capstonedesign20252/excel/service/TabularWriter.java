@@ -0,0 +1,15 @@
+package com.example.capstonedesign20252.excel.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 내보내기용 표 형식 writer (헤더 한 줄 + 데이터 행)
+ *
+ * - 행 단위로 바로 출력하므로 전체 데이터를 메모리에 모으지 않음
+ * - close 시 남은 내용을 출력 스트림에 내보냄 (출력 스트림 자체는 닫지 않음)
+ */
+public interface TabularWriter extends Closeable {
+
+  void writeRow(Object... values) throws IOException;
+}
@@ -1,13 +1,27 @@
 package com.example.capstonedesign20252.fee.controller;
 
+import com.example.capstonedesign20252.fee.dto.FeeSort;
 import com.example.capstonedesign20252.fee.dto.FeesResponseDto;
+import com.example.capstonedesign20252.fee.dto.PaymentMatrix;
+import com.example.capstonedesign20252.fee.service.FeeMatrixService;
 import com.example.capstonedesign20252.fee.service.FeeService;
+import com.example.capstonedesign20252.paymentCycle.config.CycleSnapshotProperties;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
+import com.example.capstonedesign20252.paymentCycle.service.PaymentCycleSnapshotService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 @RestController
@@ -16,21 +30,81 @@ import java.time.format.DateTimeFormatter;
 @RequestMapping("/api/groups")
 public class FeeController {
 
+  private static final int MAX_PAGE_SIZE = 500;
+
   private final FeeService feeService;
+  private final FeeMatrixService feeMatrixService;
+  private final PaymentCycleSnapshotService paymentCycleSnapshotService;
+  private final CycleSnapshotProperties snapshotProperties;
+  private final ObjectMapper objectMapper;
 
   @GetMapping("/{groupId}/fees")
   public ResponseEntity<FeesResponseDto> getFees(
       @PathVariable Long groupId,
-      @RequestParam(required = false) String period) {
+      @RequestParam(required = false) String period,
+      @RequestParam(required = false) String status,
+      @RequestParam(defaultValue = "name") String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size,
+      ServletWebRequest request) {
 
-    log.info("회비 현황 조회 요청 - groupId: {}, period: {}", groupId, period);
+    log.info("회비 현황 조회 요청 - groupId: {}, period: {}, status: {}, sort: {}", groupId, period, status, sort);
 
     // period 없으면 현재 월
     if (period == null || period.isEmpty()) {
       period = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
     }
 
-    FeesResponseDto response = feeService.getFeesStatus(groupId, period);
-    return ResponseEntity.ok(response);
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+    // 종료된 기간: 스냅샷 etag가 같으면 본문 없이 304
+    CycleSnapshotSummaryDto snapshot = paymentCycleSnapshotService.findSummary(groupId, period).orElse(null);
+    if (snapshot != null && request.checkNotModified(quoted(snapshot.etag()))) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    FeesResponseDto response = feeService.getFeesStatus(groupId, period, status, FeeSort.from(sort), cursor, pageSize,
+        snapshot);
+    if (snapshot == null) {
+      return ResponseEntity.ok(response);
+    }
+    return ResponseEntity.ok()
+                         .eTag(quoted(snapshot.etag()))
+                         .cacheControl(CacheControl.maxAge(snapshotProperties.getMaxAge()).cachePrivate())
+                         .body(response);
+  }
+
+  /**
+   * 멤버 × 기간 납부 현황 표 (기본: 이번 달까지 최근 12개월)
+   */
+  @GetMapping("/{groupId}/fees/matrix")
+  public ResponseEntity<StreamingResponseBody> getFeeMatrix(
+      @PathVariable Long groupId,
+      @RequestParam(required = false) String from,
+      @RequestParam(required = false) String to) {
+
+    log.info("납부 현황 표 조회 요청 - groupId: {}, from: {}, to: {}", groupId, from, to);
+
+    DateTimeFormatter periodFormat = DateTimeFormatter.ofPattern("yyyy-MM");
+    if (to == null || to.isEmpty()) {
+      to = YearMonth.now().format(periodFormat);
+    }
+    if (from == null || from.isEmpty()) {
+      from = YearMonth.now().minusMonths(11).format(periodFormat);
+    }
+
+    PaymentMatrix matrix = feeMatrixService.getMatrix(groupId, from, to);
+    StreamingResponseBody body = out -> {
+      try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+        matrix.writeJson(json);
+      }
+    };
+    return ResponseEntity.ok()
+                         .contentType(MediaType.APPLICATION_JSON)
+                         .body(body);
+  }
+
+  private static String quoted(String etag) {
+    return "\"" + etag + "\"";
   }
 }
@@ -0,0 +1,96 @@
+package com.example.capstonedesign20252.fee.controller;
+
+import com.example.capstonedesign20252.excel.dto.ExportFormat;
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+import com.example.capstonedesign20252.fee.service.FeeExportService;
+import com.example.capstonedesign20252.fee.service.FeeService;
+import com.example.capstonedesign20252.group.service.GroupService;
+import com.example.capstonedesign20252.payment.domain.PaymentPeriodConverter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 회비 현황 / 납부 내역 파일 내보내기 (응답 스트림에 바로 씀)
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/groups")
+public class FeeExportController {
+
+  private final FeeExportService feeExportService;
+  private final GroupService groupService;
+
+  @GetMapping("/{groupId}/fees/export")
+  public ResponseEntity<StreamingResponseBody> exportFees(
+      @PathVariable Long groupId,
+      @RequestParam(required = false) String period,
+      @RequestParam(required = false) String status,
+      @RequestParam(defaultValue = "xlsx") String format) {
+
+    log.info("회비 현황 내보내기 요청 - groupId: {}, period: {}, format: {}", groupId, period, format);
+
+    // 응답을 쓰기 시작한 뒤에는 에러 응답을 보낼 수 없으므로 먼저 검증
+    groupService.findByGroupId(groupId);
+    ExportFormat exportFormat = parseFormat(format);
+    String targetPeriod = period == null || period.isEmpty()
+        ? LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM")) : parsePeriod(period);
+    String statusFilter = FeeService.normalizeStatus(status);
+
+    return attachment("fees-" + groupId + "-" + targetPeriod, exportFormat,
+        out -> feeExportService.exportFees(groupId, targetPeriod, statusFilter, exportFormat, out));
+  }
+
+  @GetMapping("/{groupId}/payments/export")
+  public ResponseEntity<StreamingResponseBody> exportPaymentHistory(
+      @PathVariable Long groupId,
+      @RequestParam(required = false) String period,
+      @RequestParam(defaultValue = "xlsx") String format) {
+
+    log.info("납부 내역 내보내기 요청 - groupId: {}, period: {}, format: {}", groupId, period, format);
+
+    groupService.findByGroupId(groupId);
+    ExportFormat exportFormat = parseFormat(format);
+    String targetPeriod = period == null || period.isEmpty() ? null : parsePeriod(period);
+
+    return attachment("payments-" + groupId + (targetPeriod == null ? "" : "-" + targetPeriod), exportFormat,
+        out -> feeExportService.exportPaymentHistory(groupId, targetPeriod, exportFormat, out));
+  }
+
+  private static ExportFormat parseFormat(String format) {
+    return ExportFormat.from(format)
+                       .orElseThrow(() -> new FeeException(FeeErrorCode.INVALID_EXPORT_FORMAT));
+  }
+
+  private static String parsePeriod(String period) {
+    if (!PaymentPeriodConverter.isValid(period)) {
+      throw new FeeException(FeeErrorCode.INVALID_PERIOD);
+    }
+    return period;
+  }
+
+  private static ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportFormat format,
+      StreamingResponseBody body) {
+    ContentDisposition disposition = ContentDisposition.attachment()
+                                                       .filename(baseName + "." + format.extension(), StandardCharsets.UTF_8)
+                                                       .build();
+    return ResponseEntity.ok()
+                         .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                         .contentType(MediaType.parseMediaType(format.contentType()))
+                         .body(body);
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.capstonedesign20252.fee.domain;
+
+import com.example.capstonedesign20252.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum FeeErrorCode implements ErrorCode {
+
+  INVALID_STATUS(HttpStatus.BAD_REQUEST, "FEE-001", "납부 상태는 PAID, PENDING, OVERDUE 중 하나여야 합니다."),
+  INVALID_SORT(HttpStatus.BAD_REQUEST, "FEE-002", "정렬 기준은 name, paidAt 중 하나여야 합니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "FEE-003", "잘못된 페이지 커서입니다."),
+  INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "FEE-004", "내보내기 형식은 xlsx, csv 중 하나여야 합니다."),
+  INVALID_PERIOD_RANGE(HttpStatus.BAD_REQUEST, "FEE-005", "기간은 yyyy-MM 형식, 시작 ≤ 종료, 최대 24개월이어야 합니다."),
+  INVALID_PERIOD(HttpStatus.BAD_REQUEST, "FEE-006", "기간은 yyyy-MM 형식이어야 합니다.");
+
+  private final HttpStatus status;
+  private final String code;
+  private final String message;
+}
@@ -0,0 +1,27 @@
+package com.example.capstonedesign20252.fee.domain;
+
+import com.example.capstonedesign20252.common.exception.BaseException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class FeeException extends BaseException {
+
+  private final FeeErrorCode feeErrorCode;
+
+  @Override
+  public String getMessage() {
+    return feeErrorCode.getMessage();
+  }
+
+  @Override
+  public String getCode() {
+    return feeErrorCode.getCode();
+  }
+
+  @Override
+  public int getStatus() {
+    return feeErrorCode.getStatus().value();
+  }
+}
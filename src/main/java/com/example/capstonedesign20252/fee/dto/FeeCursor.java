@@ -0,0 +1,50 @@
+package com.example.capstonedesign20252.fee.dto;
+
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 회비 현황 keyset 커서 (마지막 행의 정렬 값 + memberId)
+ *
+ * - name 정렬: name, paidAt 정렬: paidAt (미납이면 null)
+ * - 클라이언트에는 base64url 문자열로 전달
+ */
+public record FeeCursor(
+    String name,
+    LocalDateTime paidAt,
+    Long memberId
+) {
+
+  private static final String NULL_VALUE = "-";
+
+  public static FeeCursor after(FeeSort sort, MemberPaymentDto last) {
+    return sort == FeeSort.NAME
+        ? new FeeCursor(last.name(), null, last.memberId())
+        : new FeeCursor(null, last.paidAt(), last.memberId());
+  }
+
+  public String encode(FeeSort sort) {
+    String value = sort == FeeSort.NAME ? name
+        : paidAt == null ? NULL_VALUE : paidAt.toString();
+    String raw = memberId + "\n" + value;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static FeeCursor decode(FeeSort sort, String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('\n');
+      Long memberId = Long.valueOf(raw.substring(0, separator));
+      String value = raw.substring(separator + 1);
+      if (sort == FeeSort.NAME) {
+        return new FeeCursor(value, null, memberId);
+      }
+      return new FeeCursor(null, NULL_VALUE.equals(value) ? null : LocalDateTime.parse(value), memberId);
+    } catch (RuntimeException e) {
+      throw new FeeException(FeeErrorCode.INVALID_CURSOR);
+    }
+  }
+}
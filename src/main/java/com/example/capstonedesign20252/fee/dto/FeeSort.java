@@ -0,0 +1,22 @@
+package com.example.capstonedesign20252.fee.dto;
+
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+
+public enum FeeSort {
+
+  // 이름 오름차순
+  NAME,
+  // 최근 납부순, 미납은 뒤로
+  PAID_AT;
+
+  public static FeeSort from(String value) {
+    if (value == null || value.isBlank() || value.equalsIgnoreCase("name")) {
+      return NAME;
+    }
+    if (value.equalsIgnoreCase("paidAt")) {
+      return PAID_AT;
+    }
+    throw new FeeException(FeeErrorCode.INVALID_SORT);
+  }
+}
@@ -12,7 +12,9 @@ public record FeesResponseDto(
     Long totalCollected,
     Long targetAmount,
     Integer paymentRate,
-    List<MemberPaymentDto> members
+    List<MemberPaymentDto> members,
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    String nextCursor
 ) {
 
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.example.capstonedesign20252.fee.dto;
+
+public record MatrixCellDto(
+    Long memberId,
+    String period,
+    String status
+) {}
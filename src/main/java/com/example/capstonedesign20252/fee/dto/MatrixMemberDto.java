@@ -0,0 +1,6 @@
+package com.example.capstonedesign20252.fee.dto;
+
+public record MatrixMemberDto(
+    Long memberId,
+    String name
+) {}
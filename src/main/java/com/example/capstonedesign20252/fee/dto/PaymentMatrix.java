@@ -0,0 +1,105 @@
+package com.example.capstonedesign20252.fee.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멤버 × 기간 납부 상태 표
+ *
+ * - 셀은 멤버 순서대로 행 우선 byte 배열에 상태 코드로 보관 (0 = 결제 없음)
+ * - 같은 멤버/기간에 결제가 여러 건이면 PAID > OVERDUE > PENDING 순으로 하나만 남김
+ */
+public final class PaymentMatrix {
+
+  private static final String[] STATUSES = {null, "PENDING", "OVERDUE", "PAID"};
+
+  private final Long groupId;
+  private final List<String> periods;
+  private final long[] memberIds;
+  private final String[] memberNames;
+  private final byte[] cells;
+  private final Map<Long, Integer> rowIndex;
+  private final Map<String, Integer> columnIndex;
+
+  public PaymentMatrix(Long groupId, List<String> periods, List<MatrixMemberDto> members) {
+    this.groupId = groupId;
+    this.periods = periods;
+    this.memberIds = new long[members.size()];
+    this.memberNames = new String[members.size()];
+    this.cells = new byte[members.size() * periods.size()];
+    this.rowIndex = new HashMap<>(members.size() * 2);
+    this.columnIndex = new HashMap<>(periods.size() * 2);
+
+    for (int i = 0; i < members.size(); i++) {
+      memberIds[i] = members.get(i).memberId();
+      memberNames[i] = members.get(i).name();
+      rowIndex.put(members.get(i).memberId(), i);
+    }
+    for (int i = 0; i < periods.size(); i++) {
+      columnIndex.put(periods.get(i), i);
+    }
+  }
+
+  public void put(MatrixCellDto cell) {
+    Integer row = rowIndex.get(cell.memberId());
+    Integer column = columnIndex.get(cell.period());
+    byte code = code(cell.status());
+    if (row == null || column == null || code == 0) {
+      return;
+    }
+    int index = row * periods.size() + column;
+    if (code > cells[index]) {
+      cells[index] = code;
+    }
+  }
+
+  public int memberCount() {
+    return memberIds.length;
+  }
+
+  /**
+   * {"groupId", "periods": [...], "members": [{"memberId", "name", "statuses": [...]}]} 형식으로 한 행씩 출력
+   */
+  public void writeJson(JsonGenerator json) throws IOException {
+    json.writeStartObject();
+    json.writeNumberField("groupId", groupId);
+    json.writeArrayFieldStart("periods");
+    for (String period : periods) {
+      json.writeString(period);
+    }
+    json.writeEndArray();
+
+    json.writeArrayFieldStart("members");
+    int columns = periods.size();
+    for (int row = 0; row < memberIds.length; row++) {
+      json.writeStartObject();
+      json.writeNumberField("memberId", memberIds[row]);
+      json.writeStringField("name", memberNames[row]);
+      json.writeArrayFieldStart("statuses");
+      for (int column = 0; column < columns; column++) {
+        String status = STATUSES[cells[row * columns + column]];
+        if (status == null) {
+          json.writeNull();
+        } else {
+          json.writeString(status);
+        }
+      }
+      json.writeEndArray();
+      json.writeEndObject();
+    }
+    json.writeEndArray();
+    json.writeEndObject();
+  }
+
+  private static byte code(String status) {
+    for (byte i = 1; i < STATUSES.length; i++) {
+      if (STATUSES[i].equals(status)) {
+        return i;
+      }
+    }
+    return 0;
+  }
+}
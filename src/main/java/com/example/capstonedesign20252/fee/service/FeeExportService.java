@@ -0,0 +1,78 @@
+package com.example.capstonedesign20252.fee.service;
+
+import com.example.capstonedesign20252.excel.dto.ExportFormat;
+import com.example.capstonedesign20252.excel.service.TabularWriter;
+import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
+import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.payment.dto.PaymentHistoryRowDto;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회비 현황 / 납부 내역 내보내기 (xlsx, csv)
+ *
+ * - DTO 프로젝션 스트림을 한 행씩 writer로 넘겨 응답 스트림에 바로 씀
+ * - 스트림이 열려 있는 동안 트랜잭션을 유지해야 하므로 응답 쓰기 스레드에서 호출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeeExportService {
+
+  private final GroupMemberRepository groupMemberRepository;
+  private final PaymentRepository paymentRepository;
+
+  /**
+   * @param status FeeService.normalizeStatus로 검증된 값 (null이면 전체)
+   */
+  public void exportFees(Long groupId, String period, String status, ExportFormat format,
+      OutputStream out) throws IOException {
+    long startedAt = System.currentTimeMillis();
+    int count = 0;
+
+    try (Stream<MemberPaymentDto> rows = groupMemberRepository.streamFeeRows(groupId, period, status);
+        TabularWriter writer = format.newWriter(out, "회비 현황 " + period)) {
+
+      writer.writeRow("이름", "연락처", "상태", "금액", "납부일시");
+      Iterator<MemberPaymentDto> it = rows.iterator();
+      while (it.hasNext()) {
+        MemberPaymentDto row = it.next();
+        writer.writeRow(row.name(), row.phone(), row.status(), row.paidAmount(), row.paidAt());
+        count++;
+      }
+    }
+
+    log.info("회비 현황 내보내기 완료 - groupId: {}, period: {}, 형식: {}, {}행, {}ms",
+        groupId, period, format, count, System.currentTimeMillis() - startedAt);
+  }
+
+  public void exportPaymentHistory(Long groupId, String period, ExportFormat format,
+      OutputStream out) throws IOException {
+    long startedAt = System.currentTimeMillis();
+    int count = 0;
+
+    try (Stream<PaymentHistoryRowDto> rows = paymentRepository.streamHistoryByGroupId(groupId, period);
+        TabularWriter writer = format.newWriter(out, "납부 내역")) {
+
+      writer.writeRow("결제 ID", "기간", "이름", "연락처", "금액", "상태", "납부 기한", "납부일시");
+      Iterator<PaymentHistoryRowDto> it = rows.iterator();
+      while (it.hasNext()) {
+        PaymentHistoryRowDto row = it.next();
+        writer.writeRow(row.paymentId(), row.period(), row.memberName(), row.phone(), row.amount(),
+            row.status(), row.dueDate(), row.paidAt());
+        count++;
+      }
+    }
+
+    log.info("납부 내역 내보내기 완료 - groupId: {}, period: {}, 형식: {}, {}행, {}ms",
+        groupId, period, format, count, System.currentTimeMillis() - startedAt);
+  }
+}
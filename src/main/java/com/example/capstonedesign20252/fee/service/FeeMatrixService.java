@@ -0,0 +1,71 @@
+package com.example.capstonedesign20252.fee.service;
+
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+import com.example.capstonedesign20252.fee.dto.MatrixCellDto;
+import com.example.capstonedesign20252.fee.dto.PaymentMatrix;
+import com.example.capstonedesign20252.group.service.GroupService;
+import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 멤버 × 기간 납부 현황 표 (연간 보기)
+ *
+ * - 멤버 목록 1회 + 기간 범위 결제 상태 1회 조회 후 PaymentMatrix로 피벗
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeeMatrixService {
+
+  private static final int MAX_PERIODS = 24;
+  private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+  private final GroupService groupService;
+  private final GroupMemberRepository groupMemberRepository;
+  private final PaymentRepository paymentRepository;
+
+  public PaymentMatrix getMatrix(Long groupId, String from, String to) {
+    groupService.findByGroupId(groupId);
+    List<String> periods = periodRange(from, to);
+
+    PaymentMatrix matrix = new PaymentMatrix(groupId, periods, groupMemberRepository.findMatrixMembers(groupId));
+    List<MatrixCellDto> cells = paymentRepository.findMatrixCells(groupId,
+        periods.get(0), periods.get(periods.size() - 1));
+    cells.forEach(matrix::put);
+
+    log.info("납부 현황 표 조회 - groupId: {}, 기간: {} ~ {}, 멤버: {}명, 결제: {}건",
+        groupId, from, to, matrix.memberCount(), cells.size());
+    return matrix;
+  }
+
+  private static List<String> periodRange(String from, String to) {
+    YearMonth start;
+    YearMonth end;
+    try {
+      start = YearMonth.parse(from, PERIOD_FORMAT);
+      end = YearMonth.parse(to, PERIOD_FORMAT);
+    } catch (DateTimeParseException | NullPointerException e) {
+      throw new FeeException(FeeErrorCode.INVALID_PERIOD_RANGE);
+    }
+    if (start.isAfter(end) || start.plusMonths(MAX_PERIODS).isBefore(end.plusMonths(1))) {
+      throw new FeeException(FeeErrorCode.INVALID_PERIOD_RANGE);
+    }
+
+    List<String> periods = new ArrayList<>();
+    for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+      periods.add(month.format(PERIOD_FORMAT));
+    }
+    return periods;
+  }
+}
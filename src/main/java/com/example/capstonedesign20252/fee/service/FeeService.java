@@ -1,24 +1,29 @@
 package com.example.capstonedesign20252.fee.service;
 
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+import com.example.capstonedesign20252.fee.dto.FeeCursor;
+import com.example.capstonedesign20252.fee.dto.FeeSort;
 import com.example.capstonedesign20252.fee.dto.FeesResponseDto;
 import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
 import com.example.capstonedesign20252.group.domain.Group;
-import com.example.capstonedesign20252.group.repository.GroupRepository;
 import com.example.capstonedesign20252.group.service.GroupService;
-import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
-import com.example.capstonedesign20252.payment.domain.Payment;
-import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.domain.PaymentPeriodConverter;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
+import com.example.capstonedesign20252.paymentCycle.service.PaymentCycleSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -26,75 +31,59 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FeeService {
 
+  private static final Set<String> STATUSES = Set.of("PAID", "PENDING", "OVERDUE");
+  private static final Comparator<MemberPaymentDto> BY_PAID_AT =
+      Comparator.comparing(MemberPaymentDto::paidAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(MemberPaymentDto::memberId);
+
   private final GroupService groupService;
   private final GroupMemberRepository groupMemberRepository;
-  private final PaymentRepository paymentRepository;
-
-  public FeesResponseDto getFeesStatus(Long groupId, String period) {
+  private final PaymentStatisticsService paymentStatisticsService;
+  private final PaymentCycleSnapshotService paymentCycleSnapshotService;
+
+  /**
+   * 회비 현황 (요약은 집계 통계, 멤버 목록은 keyset 페이지, 종료된 기간은 스냅샷에서)
+   *
+   * @param status 납부 상태 필터 (null이면 전체)
+   * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+   * @param snapshot 종료된 기간 스냅샷 (null이면 실시간 조회)
+   */
+  public FeesResponseDto getFeesStatus(Long groupId, String period, String status,
+      FeeSort sort, String cursor, int size, CycleSnapshotSummaryDto snapshot) {
 
     Group group = groupService.findByGroupId(groupId);
-    List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
-
-    List<Payment> payments = paymentRepository.findByGroupIdAndPaymentPeriod(groupId, period);
-    Map<Long, Payment> paymentMap = payments.stream()
-                                            .collect(Collectors.toMap(
-                                                p -> p.getGroupMember().getId(),
-                                                p -> p,
-                                                (p1, p2) -> p1
-                                            ));
-
-    LocalDateTime now = LocalDateTime.now();
-    List<MemberPaymentDto> memberPayments = members.stream()
-                                                   .map(member -> {
-                                                     Payment payment = paymentMap.get(member.getId());
-
-                                                     if (payment == null) {
-                                                       return new MemberPaymentDto(
-                                                           member.getId(),
-                                                           null,
-                                                           member.getName(),
-                                                           member.getPhone(),
-                                                           0,
-                                                           "PENDING",
-                                                           null
-                                                       );
-                                                     }
-
-                                                     String status = payment.getStatus();
-
-                                                     if ("PENDING".equals(status) && payment.getDueDate() != null
-                                                         && payment.getDueDate().isBefore(now)) {
-                                                       status = "OVERDUE";
-                                                     }
-
-                                                     return new MemberPaymentDto(
-                                                         member.getId(),
-                                                         payment.getId(),
-                                                         member.getName(),
-                                                         member.getPhone(),
-                                                         payment.getAmount().intValue(),
-                                                         status,
-                                                         payment.getPaidAt()
-                                                     );
-                                                   })
-                                                   .collect(Collectors.toList());
-
-    int totalMembers = members.size();
-    int paidMembers = (int) memberPayments.stream()
-                                          .filter(m -> "PAID".equals(m.status()))
-                                          .count();
-    int unpaidMembers = totalMembers - paidMembers;
-
-    long totalCollected = memberPayments.stream()
-                                        .filter(m -> "PAID".equals(m.status()))
-                                        .mapToLong(MemberPaymentDto::paidAmount)
-                                        .sum();
+    requireValidPeriod(period);
+    String statusFilter = normalizeStatus(status);
+    FeeCursor after = cursor == null || cursor.isBlank() ? null : FeeCursor.decode(sort, cursor);
+
+    if (snapshot != null) {
+      return fromSnapshot(snapshot, statusFilter, sort, after, size);
+    }
+
+    // 다음 페이지 존재 여부 확인용으로 한 행 더 조회
+    PageRequest page = PageRequest.of(0, size + 1);
+    List<MemberPaymentDto> rows = sort == FeeSort.NAME
+        ? groupMemberRepository.findFeeRowsOrderByName(groupId, period, statusFilter,
+            after == null ? null : after.name(), after == null ? null : after.memberId(), page)
+        : groupMemberRepository.findFeeRowsOrderByPaidAt(groupId, period, statusFilter,
+            after == null ? null : after.paidAt(), after == null ? null : after.memberId(), page);
+
+    String nextCursor = nextCursor(rows, sort, size);
+    if (nextCursor != null) {
+      rows = rows.subList(0, size);
+    }
+
+    PaymentStatsDto stats = paymentStatisticsService.getStats(groupId, period);
+    int totalMembers = stats.totalMembers();
+    int paidMembers = stats.paidCount();
+    int unpaidMembers = stats.unpaidCount();
+    long totalCollected = stats.collectedAmount();
 
     long targetAmount = (long) group.getFee() * totalMembers;
-    int paymentRate = totalMembers == 0 ? 0 : (int) ((paidMembers * 100) / totalMembers);
+    int paymentRate = stats.paymentRate();
 
-    log.info("회비 현황 조회 완료 - 납부율: {}%, 납부: {}명, 미납: {}명",
-        paymentRate, paidMembers, unpaidMembers);
+    log.info("회비 현황 조회 완료 - 납부율: {}%, 납부: {}명, 미납: {}명, 페이지: {}건",
+        paymentRate, paidMembers, unpaidMembers, rows.size());
 
     return new FeesResponseDto(
         group.getGroupName(),
@@ -106,7 +95,71 @@ public class FeeService {
         totalCollected,
         targetAmount,
         paymentRate,
-        memberPayments
+        rows,
+        nextCursor
+    );
+  }
+
+  /**
+   * 종료된 기간: 스냅샷 집계 + 스냅샷 멤버 목록을 메모리에서 필터/정렬/페이지
+   */
+  private FeesResponseDto fromSnapshot(CycleSnapshotSummaryDto snapshot, String statusFilter,
+      FeeSort sort, FeeCursor after, int size) {
+    Comparator<MemberPaymentDto> order = sort == FeeSort.NAME ? PaymentCycleSnapshotService.BY_NAME : BY_PAID_AT;
+
+    Stream<MemberPaymentDto> stream = paymentCycleSnapshotService.getMembers(snapshot).stream();
+    if (statusFilter != null) {
+      stream = stream.filter(row -> statusFilter.equals(row.status()));
+    }
+    if (sort != FeeSort.NAME) {
+      stream = stream.sorted(order);
+    }
+    if (after != null) {
+      MemberPaymentDto cursorRow = new MemberPaymentDto(after.memberId(), null, after.name(), null, null, null,
+          after.paidAt());
+      stream = stream.filter(row -> order.compare(row, cursorRow) > 0);
+    }
+    List<MemberPaymentDto> rows = stream.limit(size + 1L).toList();
+
+    String nextCursor = nextCursor(rows, sort, size);
+    if (nextCursor != null) {
+      rows = rows.subList(0, size);
+    }
+
+    return new FeesResponseDto(
+        snapshot.groupName(),
+        snapshot.monthlyFee(),
+        snapshot.period(),
+        snapshot.totalMembers(),
+        snapshot.paidMembers(),
+        snapshot.unpaidMembers(),
+        snapshot.totalCollected(),
+        snapshot.targetAmount(),
+        snapshot.paymentRate(),
+        rows,
+        nextCursor
     );
   }
+
+  // 한 행 더 조회한 결과로 다음 페이지 커서 계산 (마지막 페이지면 null)
+  private static String nextCursor(List<MemberPaymentDto> rows, FeeSort sort, int size) {
+    return rows.size() > size ? FeeCursor.after(sort, rows.get(size - 1)).encode(sort) : null;
+  }
+
+  private static void requireValidPeriod(String period) {
+    if (!PaymentPeriodConverter.isValid(period)) {
+      throw new FeeException(FeeErrorCode.INVALID_PERIOD);
+    }
+  }
+
+  public static String normalizeStatus(String status) {
+    if (status == null || status.isBlank()) {
+      return null;
+    }
+    String normalized = status.toUpperCase();
+    if (!STATUSES.contains(normalized)) {
+      throw new FeeException(FeeErrorCode.INVALID_STATUS);
+    }
+    return normalized;
+  }
 }
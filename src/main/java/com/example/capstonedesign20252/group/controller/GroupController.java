@@ -1,9 +1,13 @@
 package com.example.capstonedesign20252.group.controller;
 
+import com.example.capstonedesign20252.group.dto.GroupOverviewDto;
 import com.example.capstonedesign20252.group.dto.GroupResponseDto;
+import com.example.capstonedesign20252.group.dto.RecurringCycleDto;
 import com.example.capstonedesign20252.group.dto.UpdateRequestGroupDto;
 import com.example.capstonedesign20252.group.dto.createGroupRequestDto;
 import com.example.capstonedesign20252.group.service.GroupService;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -57,6 +62,22 @@ public class GroupController {
     return ResponseEntity.ok(groupService.getUserGroups(userId));
   }
 
+  /**
+   * 내 모든 그룹의 수금 현황 (period 없으면 현재 월)
+   * GET /api/groups/my/overview
+   */
+  @GetMapping("/my/overview")
+  public ResponseEntity<List<GroupOverviewDto>> getMyGroupsOverview(
+      @AuthenticationPrincipal UserDetails userDetails,
+      @RequestParam(required = false) String period
+  ) {
+    Long userId = Long.parseLong(userDetails.getUsername());
+    if (period == null || period.isEmpty()) {
+      period = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+    }
+    return ResponseEntity.ok(groupService.getUserGroupsOverview(userId, period));
+  }
+
   @GetMapping
   public ResponseEntity<List<GroupResponseDto>> getAllGroups() {
     return ResponseEntity.ok(groupService.getAllGroups());
@@ -77,6 +98,21 @@ public class GroupController {
     return ResponseEntity.ok(groupService.updateGroup(groupId, updateRequestGroupDto));
   }
 
+  @GetMapping("/{groupId:\\d+}/recurring-cycle")
+  public ResponseEntity<RecurringCycleDto> getRecurringCycle(
+      @PathVariable Long groupId
+  ) {
+    return ResponseEntity.ok(groupService.getRecurringCycle(groupId));
+  }
+
+  @PutMapping("/{groupId:\\d+}/recurring-cycle")
+  public ResponseEntity<RecurringCycleDto> updateRecurringCycle(
+      @PathVariable Long groupId,
+      @RequestBody RecurringCycleDto recurringCycleDto
+  ) {
+    return ResponseEntity.ok(groupService.updateRecurringCycle(groupId, recurringCycleDto));
+  }
+
   @DeleteMapping("/{groupId:\\d+}")
   public ResponseEntity<Void> deleteGroup(
       @PathVariable Long groupId
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,10 +23,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
-@Table(name = "groups")
+@Table(name = "groups",
+    indexes = {
+        @Index(name = "idx_group_account_name", columnList = "account_name"),
+        @Index(name = "idx_group_recurring", columnList = "recurring_enabled, billing_day")
+    })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Group {
 
@@ -53,6 +59,17 @@ public class Group {
   @Column(name = "fee", nullable = false)
   private Integer fee;
 
+  // 매월 수금 기간 자동 시작 (billingDay일에 시작, 마감은 시작일 + dueOffsetDays)
+  @ColumnDefault("false")
+  @Column(name = "recurring_enabled", nullable = false)
+  private Boolean recurringEnabled = false;
+
+  @Column(name = "billing_day")
+  private Integer billingDay;
+
+  @Column(name = "due_offset_days")
+  private Integer dueOffsetDays;
+
   @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<GroupMember> groupMembers = new ArrayList<>();
 
@@ -73,4 +90,10 @@ public class Group {
     if(updateRequestGroupDto.groupCategory() != null) this.groupCategory = updateRequestGroupDto.groupCategory();
     if(updateRequestGroupDto.fee() != null) this.fee = updateRequestGroupDto.fee();
   }
+
+  public void updateRecurringCycle(boolean enabled, Integer billingDay, Integer dueOffsetDays) {
+    this.recurringEnabled = enabled;
+    this.billingDay = billingDay;
+    this.dueOffsetDays = dueOffsetDays;
+  }
 }
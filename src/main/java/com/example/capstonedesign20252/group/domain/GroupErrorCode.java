@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum GroupErrorCode implements ErrorCode {
 
-  GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "GROUP-001", "해당 그룹이 존재하지 않습니다.");
+  GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "GROUP-001", "해당 그룹이 존재하지 않습니다."),
+  INVALID_RECURRING_CYCLE(HttpStatus.BAD_REQUEST, "GROUP-002", "청구일은 1~28일, 마감일은 청구일로부터 0~27일 뒤여야 합니다."),
+  INVALID_PERIOD(HttpStatus.BAD_REQUEST, "GROUP-003", "기간은 yyyy-MM 형식이어야 합니다.");
 
   private final HttpStatus status;
   private final String code;
@@ -0,0 +1,34 @@
+package com.example.capstonedesign20252.group.dto;
+
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
+
+public record GroupOverviewDto(
+    Long groupId,
+    String groupName,
+    Integer fee,
+    String period,
+    Integer totalMembers,
+    Integer paidMembers,
+    Integer pendingMembers,
+    Integer overdueMembers,
+    Long totalCollected,
+    Long targetAmount,
+    Integer paymentRate
+) {
+  public static GroupOverviewDto of(Group group, PaymentStatsDto stats) {
+    return new GroupOverviewDto(
+        group.getId(),
+        group.getGroupName(),
+        group.getFee(),
+        stats.period(),
+        stats.totalMembers(),
+        stats.paidCount(),
+        stats.pendingCount(),
+        stats.overdueCount(),
+        stats.collectedAmount(),
+        (long) group.getFee() * stats.totalMembers(),
+        stats.paymentRate()
+    );
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.capstonedesign20252.group.dto;
+
+public record GroupRouteDto(
+    Long groupId,
+    String accountName,
+    String groupName
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.capstonedesign20252.group.dto;
+
+import com.example.capstonedesign20252.group.domain.Group;
+
+public record RecurringCycleDto(
+    Boolean enabled,
+    Integer billingDay,
+    Integer dueOffsetDays
+) {
+  public static RecurringCycleDto from(Group group) {
+    return new RecurringCycleDto(group.getRecurringEnabled(), group.getBillingDay(), group.getDueOffsetDays());
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.capstonedesign20252.group.dto;
+
+public record RecurringGroupDto(
+    Long groupId,
+    Integer billingDay,
+    Integer dueOffsetDays
+) {}
@@ -1,6 +1,8 @@
 package com.example.capstonedesign20252.group.repository;
 
 import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.group.dto.GroupRouteDto;
+import com.example.capstonedesign20252.group.dto.RecurringGroupDto;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,11 +12,23 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
-  List<Group> findByUserId(Long userId);
+  @Query("SELECT g FROM Group g WHERE g.user.id = :userId")
+  List<Group> findByUserId(@Param("userId") Long userId);
   Optional<Group> findByAccountName(String accountName);
 
-  @Query("SELECT g FROM Group g WHERE " +
-         "g.accountName = :accountName OR" +
-         ":accountName LIKE CONCAT('%', g.groupName, '%')")
-  List<Group> findByAccountNameOrContainsGroupName(@Param("accountName") String accountName);
+  // 입금 라우팅 인덱스 적재용
+  @Query("SELECT new com.example.capstonedesign20252.group.dto.GroupRouteDto(g.id, g.accountName, g.groupName) " +
+         "FROM Group g")
+  List<GroupRouteDto> findAllRoutes();
+
+  @Query("SELECT g.id FROM Group g")
+  List<Long> findAllIds();
+
+  // 자동 수금 대상 (청구일이 지났고 해당 기간 수금이 아직 없는 그룹)
+  @Query("SELECT new com.example.capstonedesign20252.group.dto.RecurringGroupDto(g.id, g.billingDay, g.dueOffsetDays) " +
+         "FROM Group g " +
+         "WHERE g.recurringEnabled = true AND g.billingDay <= :day " +
+         "AND NOT EXISTS (SELECT 1 FROM PaymentCycle pc WHERE pc.group = g AND pc.period = :period) " +
+         "ORDER BY g.id")
+  List<RecurringGroupDto> findRecurringDue(@Param("period") String period, @Param("day") int day);
 }
@@ -0,0 +1,228 @@
+package com.example.capstonedesign20252.group.service;
+
+import static com.example.capstonedesign20252.common.transaction.TransactionCallbacks.afterCommit;
+
+import com.example.capstonedesign20252.group.dto.GroupRouteDto;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입금 통장 이름 → 그룹 라우팅 인덱스 (메모리)
+ *
+ * - 정확히 일치: accountName 해시맵
+ * - 포함 관계: 그룹명 Aho-Corasick 오토마톤 (통장 이름 길이에 비례해서 탐색)
+ * - 그룹 생성/수정/삭제 커밋 후 메모리 상의 라우트만으로 재구성 (DB 재조회 X)
+ * - 다른 인스턴스에서 변경된 내용은 주기적 전체 재적재로 반영
+ *   (DB 조회 후 적용 전 사이에 들어온 생성/수정/삭제는 기록해 뒀다가 적재 결과에 다시 적용)
+ *
+ * 여러 그룹이 매칭되면 id가 가장 작은 그룹 선택 (기존 쿼리의 첫 번째 결과와 동일)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupRoutingIndex {
+
+  private final GroupRepository groupRepository;
+
+  private final Map<Long, GroupRouteDto> routes = new ConcurrentHashMap<>();
+  private final Object reloadLock = new Object();
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private volatile boolean loaded = false;
+
+  // 적재 중 put/remove된 라우트 (삭제는 null), 적재 중이 아니면 null (this로 동기화)
+  private Map<Long, GroupRouteDto> changedDuringLoad;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    reload();
+  }
+
+  @Scheduled(fixedDelayString = "${group.routing.reload-interval-ms:300000}",
+             initialDelayString = "${group.routing.reload-interval-ms:300000}")
+  public void reload() {
+    // 적재는 한 번에 하나씩 (변경 기록이 한 적재에만 속하도록)
+    synchronized (reloadLock) {
+      synchronized (this) {
+        changedDuringLoad = new HashMap<>();
+      }
+      try {
+        List<GroupRouteDto> all = groupRepository.findAllRoutes();
+        synchronized (this) {
+          routes.clear();
+          all.forEach(route -> routes.put(route.groupId(), route));
+          changedDuringLoad.forEach(this::apply);
+          rebuild();
+        }
+        loaded = true;
+        log.info("그룹 라우팅 인덱스 적재 완료 - 그룹 수: {}", all.size());
+      } finally {
+        synchronized (this) {
+          changedDuringLoad = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * 통장 이름과 정확히 일치하는 그룹
+   */
+  public Optional<Long> findExact(String accountName) {
+    if (accountName == null) {
+      return Optional.empty();
+    }
+    ensureLoaded();
+    return Optional.ofNullable(snapshot.exact.get(normalize(accountName)));
+  }
+
+  /**
+   * 정확히 일치하는 그룹이 없으면 통장 이름에 그룹명이 포함된 그룹
+   */
+  public Optional<Long> resolve(String accountName) {
+    Optional<Long> exact = findExact(accountName);
+    if (exact.isPresent() || accountName == null) {
+      return exact;
+    }
+
+    List<Long> matches = snapshot.automaton.search(normalize(accountName)).stream()
+                                           .distinct()
+                                           .toList();
+    if (matches.size() > 1) {
+      log.warn("통장 이름과 여러 그룹이 매칭됨: {} → {} 중 첫 번째 선택", accountName, matches);
+    }
+    return matches.stream().min(Long::compare);
+  }
+
+  public void put(Long groupId, String accountName, String groupName) {
+    afterCommit(() -> change(groupId, new GroupRouteDto(groupId, accountName, groupName)));
+  }
+
+  public void remove(Long groupId) {
+    afterCommit(() -> change(groupId, null));
+  }
+
+  private synchronized void change(Long groupId, GroupRouteDto route) {
+    if (changedDuringLoad != null) {
+      changedDuringLoad.put(groupId, route);
+    }
+    apply(groupId, route);
+    rebuild();
+  }
+
+  private void apply(Long groupId, GroupRouteDto route) {
+    if (route == null) {
+      routes.remove(groupId);
+    } else {
+      routes.put(groupId, route);
+    }
+  }
+
+  private void ensureLoaded() {
+    if (!loaded) {
+      reload();
+    }
+  }
+
+  private void rebuild() {
+    Map<String, Long> exact = new HashMap<>();
+    Map<String, List<Long>> names = new HashMap<>();
+
+    for (GroupRouteDto route : routes.values()) {
+      if (route.accountName() != null) {
+        exact.merge(normalize(route.accountName()), route.groupId(), Math::min);
+      }
+      // 빈 그룹명은 모든 통장 이름에 포함되므로 라우팅 대상에서 제외
+      if (route.groupName() != null && !route.groupName().isEmpty()) {
+        names.computeIfAbsent(normalize(route.groupName()), k -> new ArrayList<>()).add(route.groupId());
+      }
+    }
+    snapshot = new Snapshot(exact, new NameAutomaton(names));
+  }
+
+  // DB 기본 collation(대소문자 구분 X)과 동일하게 비교
+  private static String normalize(String value) {
+    return value.toLowerCase(Locale.ROOT);
+  }
+
+  private record Snapshot(Map<String, Long> exact, NameAutomaton automaton) {
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), new NameAutomaton(Map.of()));
+  }
+
+  /**
+   * 그룹명 사전에 대한 Aho-Corasick 오토마톤 (생성 후 불변)
+   */
+  static final class NameAutomaton {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<Long>> outputs = new ArrayList<>();
+    private final int[] fail;
+
+    NameAutomaton(Map<String, List<Long>> patterns) {
+      newState();
+      for (Map.Entry<String, List<Long>> pattern : patterns.entrySet()) {
+        int state = 0;
+        for (char c : pattern.getKey().toCharArray()) {
+          Integer next = transitions.get(state).get(c);
+          if (next == null) {
+            next = newState();
+            transitions.get(state).put(c, next);
+          }
+          state = next;
+        }
+        outputs.get(state).addAll(pattern.getValue());
+      }
+
+      // BFS로 실패 링크 계산, 출력은 실패 링크 쪽 출력까지 합쳐 둠
+      fail = new int[transitions.size()];
+      Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+      while (!queue.isEmpty()) {
+        int state = queue.poll();
+        for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+          char c = edge.getKey();
+          int child = edge.getValue();
+
+          int f = fail[state];
+          while (f != 0 && !transitions.get(f).containsKey(c)) {
+            f = fail[f];
+          }
+          Integer target = transitions.get(f).get(c);
+          fail[child] = (state != 0 && target != null) ? target : 0;
+          outputs.get(child).addAll(outputs.get(fail[child]));
+          queue.add(child);
+        }
+      }
+    }
+
+    List<Long> search(String text) {
+      List<Long> found = new ArrayList<>();
+      int state = 0;
+      for (char c : text.toCharArray()) {
+        while (state != 0 && !transitions.get(state).containsKey(c)) {
+          state = fail[state];
+        }
+        state = transitions.get(state).getOrDefault(c, 0);
+        found.addAll(outputs.get(state));
+      }
+      return found;
+    }
+
+    private int newState() {
+      transitions.add(new HashMap<>());
+      outputs.add(new ArrayList<>());
+      return transitions.size() - 1;
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package com.example.capstonedesign20252.group.service;
 
 import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.group.dto.GroupOverviewDto;
 import com.example.capstonedesign20252.group.dto.GroupResponseDto;
+import com.example.capstonedesign20252.group.dto.RecurringCycleDto;
 import com.example.capstonedesign20252.group.dto.UpdateRequestGroupDto;
 import com.example.capstonedesign20252.group.dto.createGroupRequestDto;
 import java.util.List;
@@ -20,9 +22,21 @@ public interface GroupService {
 
   List<GroupResponseDto> getUserGroups(Long userId);
 
+  /**
+   * 사용자가 관리하는 모든 그룹의 기간 수금 현황
+   */
+  List<GroupOverviewDto> getUserGroupsOverview(Long userId, String period);
+
   void deleteGroup(Long groupId);
 
   Group findByGroupId(Long groupId);
 
   GroupResponseDto updateGroup(Long groupId, UpdateRequestGroupDto updateRequestGroupDto);
+
+  RecurringCycleDto getRecurringCycle(Long groupId);
+
+  /**
+   * 매월 자동 수금 설정 (enabled=false면 해제)
+   */
+  RecurringCycleDto updateRecurringCycle(Long groupId, RecurringCycleDto dto);
 }
\ No newline at end of file
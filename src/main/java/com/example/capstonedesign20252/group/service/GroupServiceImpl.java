@@ -3,17 +3,23 @@ package com.example.capstonedesign20252.group.service;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.domain.GroupErrorCode;
 import com.example.capstonedesign20252.group.domain.GroupException;
+import com.example.capstonedesign20252.group.dto.GroupOverviewDto;
 import com.example.capstonedesign20252.group.dto.GroupResponseDto;
+import com.example.capstonedesign20252.group.dto.RecurringCycleDto;
 import com.example.capstonedesign20252.group.dto.UpdateRequestGroupDto;
 import com.example.capstonedesign20252.group.dto.createGroupRequestDto;
 import com.example.capstonedesign20252.group.repository.GroupRepository;
 import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.payment.domain.PaymentPeriodConverter;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
 import com.example.capstonedesign20252.user.domain.User;
 import com.example.capstonedesign20252.user.exception.UserErrorCode;
 import com.example.capstonedesign20252.user.exception.UserException;
 import com.example.capstonedesign20252.user.repository.UserRepository;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +34,8 @@ public class GroupServiceImpl implements GroupService {
   private final GroupRepository groupRepository;
   private final UserRepository userRepository;
   private final GroupMemberRepository groupMemberRepository;
+  private final GroupRoutingIndex groupRoutingIndex;
+  private final PaymentStatisticsService paymentStatisticsService;
 
   @Transactional
   public GroupResponseDto createGroup(Long userId, createGroupRequestDto dto) {
@@ -46,6 +54,7 @@ public class GroupServiceImpl implements GroupService {
 
     Group savedGroup = groupRepository.save(group);
     log.info("그룹 생성 완료: {} (ID: {})", savedGroup.getGroupName(), savedGroup.getId());
+    groupRoutingIndex.put(savedGroup.getId(), savedGroup.getAccountName(), savedGroup.getGroupName());
 
     GroupMember adminMember = GroupMember.builder()
                                          .group(savedGroup)
@@ -83,6 +92,24 @@ public class GroupServiceImpl implements GroupService {
                           .toList();
   }
 
+  @Override
+  public List<GroupOverviewDto> getUserGroupsOverview(Long userId, String period) {
+    if (!PaymentPeriodConverter.isValid(period)) {
+      throw new GroupException(GroupErrorCode.INVALID_PERIOD);
+    }
+    List<Group> groups = groupRepository.findByUserId(userId);
+    if (groups.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, PaymentStatsDto> stats = paymentStatisticsService.getStats(
+        groups.stream().map(Group::getId).toList(), period);
+
+    return groups.stream()
+                 .map(group -> GroupOverviewDto.of(group, stats.get(group.getId())))
+                 .toList();
+  }
+
   @Override
   @Transactional
   public void deleteGroup(Long groupId) {
@@ -90,6 +117,7 @@ public class GroupServiceImpl implements GroupService {
         .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
     groupRepository.delete(group);
+    groupRoutingIndex.remove(groupId);
   }
 
   @Override
@@ -106,9 +134,32 @@ public class GroupServiceImpl implements GroupService {
         .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
     group.updateGroup(updateRequestGroupDto);
+    groupRoutingIndex.put(group.getId(), group.getAccountName(), group.getGroupName());
     return GroupResponseDto.from(group);
   }
 
+  @Override
+  public RecurringCycleDto getRecurringCycle(Long groupId) {
+    return RecurringCycleDto.from(findByGroupId(groupId));
+  }
+
+  @Override
+  @Transactional
+  public RecurringCycleDto updateRecurringCycle(Long groupId, RecurringCycleDto dto) {
+    Group group = findByGroupId(groupId);
+
+    boolean enabled = Boolean.TRUE.equals(dto.enabled());
+    if (enabled && (dto.billingDay() == null || dto.billingDay() < 1 || dto.billingDay() > 28
+        || dto.dueOffsetDays() == null || dto.dueOffsetDays() < 0 || dto.dueOffsetDays() > 27)) {
+      throw new GroupException(GroupErrorCode.INVALID_RECURRING_CYCLE);
+    }
+
+    group.updateRecurringCycle(enabled, dto.billingDay(), dto.dueOffsetDays());
+    log.info("자동 수금 설정 변경 - groupId: {}, enabled: {}, 청구일: {}, 마감: +{}일",
+        groupId, enabled, dto.billingDay(), dto.dueOffsetDays());
+    return RecurringCycleDto.from(group);
+  }
+
   private GroupResponseDto toDto(Group group){
     return new GroupResponseDto(
         group.getId(),
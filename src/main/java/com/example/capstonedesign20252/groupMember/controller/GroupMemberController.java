@@ -2,11 +2,13 @@ package com.example.capstonedesign20252.groupMember.controller;
 
 import com.example.capstonedesign20252.excel.service.ExcelParserService;
 import com.example.capstonedesign20252.excel.dto.MemberDataDto;
+import com.example.capstonedesign20252.excel.dto.StatementRowDto;
 import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.groupMember.dto.AddGroupMemberDto;
 import com.example.capstonedesign20252.groupMember.dto.MemberResponseDto;
 import com.example.capstonedesign20252.groupMember.dto.UpdateGroupMemberDto;
 import com.example.capstonedesign20252.groupMember.service.GroupMemberService;
+import com.example.capstonedesign20252.payment.service.StatementReconciliationService;
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ public class GroupMemberController {
 
   private final ExcelParserService excelParserService;
   private final GroupMemberService groupMemberService;
+  private final StatementReconciliationService statementReconciliationService;
 
   @GetMapping("/{groupId}/members")
   public ResponseEntity<List<MemberResponseDto>> getGroupMembers(
@@ -106,6 +109,38 @@ public class GroupMemberController {
     }
   }
 
+  /**
+   * 통장 거래내역 일괄 대조 (.xlsx / .csv, A열: 거래일시, B열: 입금자명, C열: 입금액)
+   * dryRun=true면 납부 처리 없이 대조 결과만 반환
+   */
+  @PostMapping("/{groupId}/statements/upload")
+  public ResponseEntity<?> uploadStatement(
+      @PathVariable Long groupId,
+      @RequestParam("file") MultipartFile file,
+      @RequestParam(defaultValue = "false") boolean dryRun,
+      @AuthenticationPrincipal UserDetails userDetails) {
+
+    Long userId = Long.parseLong(userDetails.getUsername());
+    log.info("그룹 {} 거래내역 업로드 시작 - 파일: {}, 요청자: {}", groupId, file.getOriginalFilename(), userId);
+
+    groupMemberService.validateGroupLeader(groupId, userId);
+
+    try {
+      List<StatementRowDto> rows = excelParserService.parseStatementFile(file);
+
+      if (rows.isEmpty()) {
+        return ResponseEntity.badRequest()
+                             .body(new ErrorResponse("유효한 입금 내역이 없습니다."));
+      }
+      return ResponseEntity.ok(statementReconciliationService.reconcile(groupId, rows, dryRun));
+
+    } catch (IOException e) {
+      log.error("거래내역 파일 파싱 오류: {}", e.getMessage());
+      return ResponseEntity.badRequest()
+                           .body(new ErrorResponse("거래내역 파일을 읽을 수 없습니다."));
+    }
+  }
+
   record MemberUploadResponse(int count, String message) {}
   record ErrorResponse(String message) {}
 }
@@ -10,8 +10,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,6 +23,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "group_member",
+    indexes = {
+        @Index(name = "idx_group_member_group_name", columnList = "group_id, name"),
+        @Index(name = "idx_group_member_group_phone", columnList = "group_id, phone"),
+        @Index(name = "idx_group_member_group_email", columnList = "group_id, email")
+    })
 public class GroupMember extends BaseEntity {
 
   @Id
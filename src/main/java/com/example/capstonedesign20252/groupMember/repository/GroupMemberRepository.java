@@ -1,17 +1,28 @@
 package com.example.capstonedesign20252.groupMember.repository;
 
+import com.example.capstonedesign20252.fee.dto.MatrixMemberDto;
+import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
 import com.example.capstonedesign20252.groupMember.domain.GroupMember;
+import com.example.capstonedesign20252.payment.dto.GroupPaymentStatsRowDto;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
 
-  List<GroupMember> findByGroupId(Long groupId);
+  @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId")
+  List<GroupMember> findByGroupId(@Param("groupId") Long groupId);
 
   boolean existsByGroupIdAndEmail(Long groupId, String email);
   boolean existsByGroupIdAndPhone(Long groupId, String phone);
@@ -23,5 +34,63 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
       @Param("name") String name);
 
   long countByGroupId(Long groupId);
-  List<GroupMember> findAllByGroupIdAndName(Long groupId, String name);
+
+  // 여러 그룹 기간 납부 통계 (멤버 LEFT JOIN 기간 결제)
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.GroupPaymentStatsRowDto(gm.group.id, " +
+      "COUNT(gm), " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'OVERDUE' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN p.amount ELSE 0 END)) " +
+      "FROM GroupMember gm LEFT JOIN Payment p ON p.groupMember = gm AND p.paymentPeriod = :period " +
+      "WHERE gm.group.id IN :groupIds GROUP BY gm.group.id")
+  List<GroupPaymentStatsRowDto> countPaymentStatsByGroupIds(@Param("groupIds") Collection<Long> groupIds,
+      @Param("period") String period);
+  @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.name = :name")
+  List<GroupMember> findAllByGroupIdAndName(@Param("groupId") Long groupId, @Param("name") String name);
+
+  // 회비 현황 행 (멤버 LEFT JOIN 기간 결제, 결제 없으면 PENDING)
+  String FEE_ROW_SELECT = "SELECT new com.example.capstonedesign20252.fee.dto.MemberPaymentDto(gm.id, p.id, gm.name, gm.phone, " +
+      "COALESCE(CAST(p.amount AS Integer), 0), " +
+      "COALESCE(p.status, 'PENDING'), " +
+      "p.paidAt) " +
+      "FROM GroupMember gm LEFT JOIN Payment p ON p.groupMember = gm AND p.paymentPeriod = :period " +
+      "WHERE gm.group.id = :groupId " +
+      "AND (:status IS NULL OR COALESCE(p.status, 'PENDING') = :status) ";
+
+  // 이름순 keyset (name, id)
+  @Query(FEE_ROW_SELECT +
+      "AND (:cursorId IS NULL OR gm.name > :cursorName OR (gm.name = :cursorName AND gm.id > :cursorId)) " +
+      "ORDER BY gm.name, gm.id")
+  List<MemberPaymentDto> findFeeRowsOrderByName(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("status") String status,
+      @Param("cursorName") String cursorName,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  // 최근 납부순 keyset (paidAt DESC, 미납은 뒤로, id)
+  @Query(FEE_ROW_SELECT +
+      "AND (:cursorId IS NULL " +
+      "OR p.paidAt < :cursorPaidAt " +
+      "OR (p.paidAt = :cursorPaidAt AND gm.id > :cursorId) " +
+      "OR (p.paidAt IS NULL AND (:cursorPaidAt IS NOT NULL OR gm.id > :cursorId))) " +
+      "ORDER BY CASE WHEN p.paidAt IS NULL THEN 1 ELSE 0 END, p.paidAt DESC, gm.id")
+  List<MemberPaymentDto> findFeeRowsOrderByPaidAt(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("status") String status,
+      @Param("cursorPaidAt") LocalDateTime cursorPaidAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  // 회비 현황 내보내기용 (전체 행을 이름순 스트림으로)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query(FEE_ROW_SELECT + "ORDER BY gm.name, gm.id")
+  Stream<MemberPaymentDto> streamFeeRows(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("status") String status);
+
+  // 납부 현황 표의 행 (이름순)
+  @Query("SELECT new com.example.capstonedesign20252.fee.dto.MatrixMemberDto(gm.id, gm.name) " +
+      "FROM GroupMember gm WHERE gm.group.id = :groupId ORDER BY gm.name, gm.id")
+  List<MatrixMemberDto> findMatrixMembers(@Param("groupId") Long groupId);
 }
@@ -1,5 +1,8 @@
 package com.example.capstonedesign20252.groupMember.service;
 
+import com.example.capstonedesign20252.common.event.MemberAddedEvent;
+import com.example.capstonedesign20252.common.event.MemberRemovedEvent;
+import com.example.capstonedesign20252.common.event.MemberUpdatedEvent;
 import com.example.capstonedesign20252.excel.dto.MemberDataDto;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.domain.GroupErrorCode;
@@ -14,6 +17,7 @@ import com.example.capstonedesign20252.groupMember.dto.MemberResponseDto;
 import com.example.capstonedesign20252.groupMember.dto.UpdateGroupMemberDto;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
 import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentArchiveRepository;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
 import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
@@ -22,6 +26,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +41,8 @@ public class GroupMemberService {
   private final GroupMemberRepository groupMemberRepository;
   private final PaymentCycleRepository paymentCycleRepository;
   private final PaymentRepository paymentRepository;
+  private final PaymentArchiveRepository paymentArchiveRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   private boolean isDuplicateMember(Long groupId, String email, String phone, Long excludeMemberId) {
     if (email != null && !email.isEmpty()) {
@@ -113,6 +120,7 @@ public class GroupMemberService {
 
         groupMemberRepository.save(member);
         createPaymentForActiveCycle(group, member);
+        eventPublisher.publishEvent(new MemberAddedEvent(groupId, member.getId()));
 
         addedCount++;
         log.debug("멤버 추가: {} ({})", data.name(), data.email());
@@ -150,8 +158,10 @@ public class GroupMemberService {
     if(paymentCount > 0) {
       paymentRepository.deleteAllByGroupMemberId(memberId);
     }
+    paymentArchiveRepository.deleteAllByGroupMemberId(memberId);
 
     groupMemberRepository.delete(member);
+    eventPublisher.publishEvent(new MemberRemovedEvent(groupId, memberId));
   }
 
   @Transactional
@@ -171,6 +181,7 @@ public class GroupMemberService {
 
     GroupMember savedMember = groupMemberRepository.save(newMember);
     createPaymentForActiveCycle(group, savedMember);
+    eventPublisher.publishEvent(new MemberAddedEvent(groupId, savedMember.getId()));
 
     return MemberResponseDto.from(savedMember);
   }
@@ -187,6 +198,7 @@ public class GroupMemberService {
     }
 
     member.updateGroupMember(dto);
+    eventPublisher.publishEvent(new MemberUpdatedEvent(groupId, memberId));
     return MemberResponseDto.from(member);
   }
 }
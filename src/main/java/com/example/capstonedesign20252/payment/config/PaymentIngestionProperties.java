@@ -0,0 +1,50 @@
+package com.example.capstonedesign20252.payment.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.ingestion")
+public class PaymentIngestionProperties {
+
+  /**
+   * true: PaymentLog 저장 후 즉시 202 응답, 매칭은 워커 풀에서 처리
+   * false: 기존처럼 요청 스레드에서 저장 + 매칭
+   */
+  private boolean async = false;
+
+  /**
+   * 매칭 레인 수 (레인마다 스레드 1개), queueCapacity는 레인 수로 나눠서 레인별 큐 크기로 사용
+   */
+  private int workerThreads = 4;
+  private int queueCapacity = 1000;
+
+  /**
+   * 레인 큐가 가득 찼을 때 자리를 기다리는 시간, 넘으면 매칭은 재매칭 작업(PaymentRematchJob)에 맡김
+   */
+  private long enqueueTimeoutMs = 200;
+  private int shutdownTimeoutSeconds = 30;
+  private int maxBatchSize = 1000;
+
+  /**
+   * 배치 요청 본문 최대 크기 (gzip이면 푼 크기), 넘으면 JSON 파싱 전에 413
+   */
+  private DataSize maxBatchBodySize = DataSize.ofMegabytes(10);
+
+  /**
+   * 중복 입금 알림 사전 검사용 최근 키 캐시 (LRU), 캐시에 없으면 unique 인덱스로 조회
+   */
+  private int idempotencyCacheSize = 100_000;
+  private int idempotencyCacheTtlHours = 24;
+
+  /**
+   * 입금자명 인덱스(PendingPaymentIndex) 그룹 항목 유지 시간, 노드 간 무효화를 놓쳐도 이 시간 뒤에는 재적재
+   */
+  private Duration pendingIndexTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,60 @@
+package com.example.capstonedesign20252.payment.config;
+
+import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+/**
+ * V2.1: payment_log id를 IDENTITY → 시퀀스로 바꾸면서 기존 행과 id가 겹치지 않도록
+ * payment_log_seq를 MAX(id) 이후로 맞춤 (실패하면 마이그레이션 실패 = 시작 중단)
+ *
+ * - pooled 시퀀스는 받은 값 n에서 (n - allocationSize, n] 구간을 쓰므로 MAX(id) + allocationSize부터 시작
+ */
+@Slf4j
+@Component
+public class PaymentLogSequenceMigration implements JavaMigration {
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("2.1");
+  }
+
+  @Override
+  public String getDescription() {
+    return "align payment_log_seq";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      long maxId;
+      try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM payment_log")) {
+        rs.next();
+        maxId = rs.getLong(1);
+      }
+      if (maxId == 0) {
+        return;
+      }
+      long restart = maxId + PaymentLog.ID_ALLOCATION_SIZE;
+      statement.execute("ALTER SEQUENCE payment_log_seq RESTART WITH " + restart);
+      log.info("payment_log_seq 정렬 완료 - 기존 최대 id: {}, 다음 시퀀스 값: {}", maxId, restart);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.capstonedesign20252.payment.config;
+
+import com.example.capstonedesign20252.payment.service.PaymentPartitionManager;
+import java.sql.Connection;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * V4: payments를 payment_period 월 단위 RANGE 파티션으로 전환 (MariaDB 전용, 그 외 DB는 기록만 남김)
+ *
+ * - 파티션 테이블은 외래 키를 가질 수 없고 모든 유니크 키에 파티션 키가 있어야 하므로
+ *   외래 키 제거 후 PK를 (id, payment_period)로 변경
+ * - 가장 오래된 기간 ~ 이번 달 + monthsAhead 월 파티션 + pmax, payments_archive는 압축 행 형식
+ * - 이미 파티션된 테이블(시작 시 전환하던 이전 버전)은 건너뜀
+ */
+@Slf4j
+@Component
+public class PaymentPartitionMigration implements JavaMigration {
+
+  private final PaymentPartitionProperties properties;
+
+  public PaymentPartitionMigration(PaymentPartitionProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("4");
+  }
+
+  @Override
+  public String getDescription() {
+    return "partition payments by period";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  // MariaDB DDL은 트랜잭션으로 묶이지 않음
+  @Override
+  public boolean canExecuteInTransaction() {
+    return false;
+  }
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    if (!properties.isEnabled()
+        || !PaymentPartitionManager.isMariaDb(connection.getMetaData().getDatabaseProductName())) {
+      log.info("payments 파티션 전환 건너뜀 (MariaDB 아님 또는 비활성)");
+      return;
+    }
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+    partitionIfNeeded(jdbcTemplate, YearMonth.now());
+    compressArchiveIfNeeded(jdbcTemplate);
+  }
+
+  private void partitionIfNeeded(JdbcTemplate jdbcTemplate, YearMonth now) {
+    Integer partitioned = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payments' AND PARTITION_NAME IS NOT NULL",
+        Integer.class);
+    if (partitioned != null && partitioned > 0) {
+      return;
+    }
+    long startedAt = System.currentTimeMillis();
+
+    List<String> foreignKeys = jdbcTemplate.queryForList(
+        "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payments' AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+        String.class);
+    for (String foreignKey : foreignKeys) {
+      jdbcTemplate.execute("ALTER TABLE payments DROP FOREIGN KEY `" + foreignKey + "`");
+    }
+    jdbcTemplate.execute("ALTER TABLE payments DROP PRIMARY KEY, ADD PRIMARY KEY (id, payment_period)");
+
+    Integer minPeriod = jdbcTemplate.queryForObject("SELECT MIN(payment_period) FROM payments", Integer.class);
+    YearMonth last = now.plusMonths(properties.getMonthsAhead());
+    YearMonth first = minPeriod == null ? now : PaymentPartitionManager.toYearMonth(minPeriod);
+    List<String> partitions = new ArrayList<>();
+    for (YearMonth month = first.isAfter(last) ? last : first; !month.isAfter(last); month = month.plusMonths(1)) {
+      partitions.add(PaymentPartitionManager.partitionClause(month));
+    }
+    partitions.add("PARTITION " + PaymentPartitionManager.MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+    jdbcTemplate.execute("ALTER TABLE payments PARTITION BY RANGE (payment_period) (" +
+        String.join(", ", partitions) + ")");
+
+    log.info("payments 월 파티션 구성 완료 - 파티션: {}개, 외래 키 제거: {}개, {}ms",
+        partitions.size(), foreignKeys.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  private void compressArchiveIfNeeded(JdbcTemplate jdbcTemplate) {
+    String rowFormat = jdbcTemplate.queryForObject(
+        "SELECT ROW_FORMAT FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payments_archive'",
+        String.class);
+    if (rowFormat != null && !"Compressed".equalsIgnoreCase(rowFormat)) {
+      jdbcTemplate.execute("ALTER TABLE payments_archive ROW_FORMAT=COMPRESSED");
+      log.info("payments_archive 압축 행 형식 전환");
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.capstonedesign20252.payment.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * payments 월 파티션 + 오래된 기간 보관 설정 (보관 작업 실행 주기는 payment.partition.cron)
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.partition")
+public class PaymentPartitionProperties {
+
+  /**
+   * MariaDB에서 payments를 payment_period RANGE 파티션으로 관리
+   */
+  private boolean enabled = true;
+
+  /**
+   * 이번 달 이후 미리 만들어 둘 월 파티션 수
+   */
+  private int monthsAhead = 3;
+
+  private boolean archiveEnabled = true;
+
+  /**
+   * 이번 달 기준 이보다 오래된 종료 기간은 payments_archive로 이동
+   * (회비 현황 표 최대 조회 범위 24개월보다 짧게 잡지 않음)
+   */
+  private int retentionMonths = 24;
+
+  /**
+   * 작업 점유 유지 시간
+   */
+  private Duration leaseDuration = Duration.ofHours(1);
+}
@@ -0,0 +1,30 @@
+package com.example.capstonedesign20252.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.rematch")
+public class PaymentRematchProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * 한 트랜잭션에서 재매칭할 PaymentLog 수
+   */
+  private int chunkSize = 200;
+
+  /**
+   * 1회 실행당 최대 검사 건수 (남은 건은 다음 주기 실행에서 이어서 처리)
+   */
+  private int maxPerRun = 5000;
+
+  /**
+   * 이보다 오래된 미처리 로그는 재매칭 대상에서 제외
+   */
+  private int maxAgeDays = 90;
+}
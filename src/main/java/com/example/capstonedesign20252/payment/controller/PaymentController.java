@@ -2,11 +2,13 @@ package com.example.capstonedesign20252.payment.controller;
 
 import com.example.capstonedesign20252.payment.domain.Payment;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PaymentConfirmationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -16,18 +18,20 @@ import java.util.Map;
 public class PaymentController {
 
   private final PaymentRepository paymentRepository;
+  private final PaymentConfirmationService paymentConfirmationService;
 
   // 납부 확인 (수동)
   @PostMapping("/{paymentId}/confirm")
   public ResponseEntity<Map<String, Object>> confirmPayment(@PathVariable Long paymentId) {
     log.info("납부 확인 요청 - paymentId: {}", paymentId);
 
-    Payment payment = paymentRepository.findById(paymentId)
-                                       .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다. paymentId: " + paymentId));
+    LocalDateTime paidAt = LocalDateTime.now();
 
-    // 이미 납부된 경우 체크
-    if ("PAID".equals(payment.getStatus())) {
+    // 이미 납부된 경우 (자동 매칭과 동시에 들어와도 한쪽만 납부 처리)
+    if (!paymentConfirmationService.confirm(paymentId, paidAt)) {
       log.warn("이미 납부 확인된 건 - paymentId: {}", paymentId);
+      Payment payment = paymentRepository.findById(paymentId)
+                                         .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다. paymentId: " + paymentId));
       return ResponseEntity.badRequest().body(Map.of(
           "success", false,
           "message", "이미 납부 확인된 건입니다.",
@@ -36,17 +40,13 @@ public class PaymentController {
       ));
     }
 
-    // 납부 확인 처리
-    payment.manualPaid();  // status = PAID, paidAt = now()
-    paymentRepository.save(payment);
-
-    log.info("납부 확인 완료 - paymentId: {}, paidAt: {}", paymentId, payment.getPaidAt());
+    log.info("납부 확인 완료 - paymentId: {}, paidAt: {}", paymentId, paidAt);
 
     return ResponseEntity.ok(Map.of(
         "success", true,
         "message", "납부가 확인되었습니다.",
         "paymentId", paymentId,
-        "paidAt", payment.getPaidAt()
+        "paidAt", paidAt
     ));
   }
-}
\ No newline at end of file
+}
@@ -1,10 +1,18 @@
 package com.example.capstonedesign20252.payment.controller;
 
+import com.example.capstonedesign20252.payment.config.PaymentIngestionProperties;
+import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import com.example.capstonedesign20252.payment.dto.PaymentBatchResponseDto;
 import com.example.capstonedesign20252.payment.dto.PaymentRequestDto;
 import com.example.capstonedesign20252.payment.service.PaymentLogService;
+import com.example.capstonedesign20252.payment.service.PaymentMatchingDispatcher;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -17,14 +25,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentLogController {
 
   private final PaymentLogService paymentLogService;
+  private final PaymentMatchingDispatcher paymentMatchingDispatcher;
+  private final PaymentIngestionProperties ingestionProperties;
   private static final Logger logger = LoggerFactory.getLogger(PaymentLogController.class);
+  private static final int MAX_BATCH_ATTEMPTS = 3;
 
   @PostMapping("/log")
   public ResponseEntity<Void> logPayment(@RequestBody PaymentRequestDto requestDto) {
     try {
+      if (ingestionProperties.isAsync()) {
+        // 저장(커밋)까지만 요청 스레드에서 처리하고 매칭은 워커에 위임
+        Optional<PaymentLog> paymentLog = paymentLogService.storePaymentLog(requestDto);
+        if (paymentLog.isEmpty()) {
+          logger.info("[중복 수신] 이미 접수된 결제 정보: {}", requestDto.name());
+          return ResponseEntity.ok().build();
+        }
+        paymentMatchingDispatcher.dispatch(paymentLog.get());
+        logger.info("[접수 완료] 결제 정보 저장, 매칭 대기: {} (logId: {})", requestDto.name(), paymentLog.get().getId());
+        return ResponseEntity.accepted().build();
+      }
+
       paymentLogService.savePaymentLog(requestDto);
       logger.info("[저장 성공] 결제 정보 DB 저장 완료: {}", requestDto.name());
       return ResponseEntity.ok().build();
+    } catch (DataIntegrityViolationException e) {
+      // 동시에 들어온 같은 알림: 먼저 커밋된 쪽만 저장됨
+      logger.info("[중복 수신] 동시 수신된 결제 정보: {}", requestDto.name());
+      return ResponseEntity.ok().build();
     } catch (IllegalArgumentException e) {
       logger.error("[저장 실패] 유효하지 않은 데이터: {}", e.getMessage());
       return ResponseEntity.badRequest().build();
@@ -33,4 +60,35 @@ public class PaymentLogController {
       return ResponseEntity.internalServerError().build();
     }
   }
+
+  /**
+   * 입금 알림 일괄 저장 (오프라인 동안 쌓인 알림 재전송용)
+   * POST /api/payments/log/batch
+   *
+   * Content-Encoding: gzip 요청 본문 지원, 본문 크기 제한 (GzipRequestFilter)
+   */
+  @PostMapping("/log/batch")
+  public ResponseEntity<PaymentBatchResponseDto> logPayments(@RequestBody List<PaymentRequestDto> requestDtos) {
+    if (requestDtos == null || requestDtos.isEmpty()
+        || requestDtos.size() > ingestionProperties.getMaxBatchSize()) {
+      logger.error("[배치 저장 실패] 유효하지 않은 배치 크기: {}", requestDtos == null ? 0 : requestDtos.size());
+      return ResponseEntity.badRequest().build();
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        PaymentBatchResponseDto response = paymentLogService.savePaymentLogs(requestDtos);
+        logger.info("[배치 저장 성공] 전체: {}건, 매칭: {}건, 중복: {}건",
+            response.total(), response.matched(), response.duplicate());
+        return ResponseEntity.ok(response);
+      } catch (DataIntegrityViolationException e) {
+        // 동시에 들어온 같은 알림이 먼저 커밋됨: 배치 전체가 롤백되므로 다시 처리하면 그 항목은 DUPLICATE로 응답
+        if (attempt >= MAX_BATCH_ATTEMPTS) {
+          logger.error("[배치 저장 실패] 중복 키 충돌 반복 ({}회): {}", attempt, e.getMessage());
+          return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        logger.info("[중복 수신] 동시 수신된 결제 정보와 충돌, 배치 재처리 ({}회)", attempt);
+      }
+    }
+  }
 }
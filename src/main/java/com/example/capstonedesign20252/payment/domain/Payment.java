@@ -10,10 +10,21 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 결제 건 (MariaDB에서는 payment_period 월 단위 RANGE 파티션, PaymentPartitionManager가 관리)
+ *
+ * - 파티션 테이블은 외래 키를 가질 수 없으므로 연관관계는 NO_CONSTRAINT
+ * - 보존 기간이 지난 종료 기간은 payments_archive로 이동 (PaymentArchiveJob)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "payments")
+@Table(name = "payments",
+    indexes = {
+        @Index(name = "idx_payment_group_status_paid", columnList = "group_id, status, paid_at"),
+        @Index(name = "idx_payment_member_period_status", columnList = "group_member_id, payment_period, status"),
+        @Index(name = "idx_payment_group_period_status", columnList = "group_id, payment_period, status")
+    })
 public class Payment {
 
   @Id
@@ -21,11 +32,11 @@ public class Payment {
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "group_id", nullable = false)
+  @JoinColumn(name = "group_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   private Group group;
 
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "group_member_id", nullable = false)
+  @JoinColumn(name = "group_member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   private GroupMember groupMember;
 
   @Column(nullable = false, precision = 10, scale = 2)
@@ -43,7 +54,8 @@ public class Payment {
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
-  @Column(name = "payment_period")
+  @Convert(converter = PaymentPeriodConverter.class)
+  @Column(name = "payment_period", nullable = false)
   private String paymentPeriod;
 
   @Builder
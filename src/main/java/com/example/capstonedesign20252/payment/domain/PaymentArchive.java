@@ -0,0 +1,58 @@
+package com.example.capstonedesign20252.payment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보존 기간이 지나 payments에서 옮겨 둔 결제 건 (id는 원래 결제 id, 행은 INSERT ... SELECT로만 생성)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payments_archive",
+    indexes = {
+        @Index(name = "idx_payment_archive_group_period", columnList = "group_id, payment_period"),
+        @Index(name = "idx_payment_archive_member", columnList = "group_member_id")
+    })
+public class PaymentArchive {
+
+  @Id
+  private Long id;
+
+  @Column(name = "group_id", nullable = false)
+  private Long groupId;
+
+  @Column(name = "group_member_id", nullable = false)
+  private Long groupMemberId;
+
+  @Column(nullable = false, precision = 10, scale = 2)
+  private BigDecimal amount;
+
+  @Column(nullable = false, length = 20)
+  private String status;
+
+  @Column(name = "due_date")
+  private LocalDateTime dueDate;
+
+  @Column(name = "paid_at")
+  private LocalDateTime paidAt;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Convert(converter = PaymentPeriodConverter.class)
+  @Column(name = "payment_period", nullable = false)
+  private String paymentPeriod;
+
+  @Column(name = "archived_at", nullable = false)
+  private LocalDateTime archivedAt;
+}
@@ -5,6 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,12 +15,20 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Entity
+@Table(name = "payment_log", indexes = {
+    @Index(name = "idx_processed_received", columnList = "is_processed, received_at"),
+    @Index(name = "idx_account_processed_received", columnList = "target_account, is_processed, received_at")
+})
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentLog {
 
+  public static final int ID_ALLOCATION_SIZE = 50;
+
+  // IDENTITY는 INSERT 배치가 불가능하므로 pooled 시퀀스 사용 (allocationSize = batch_size)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_log_seq")
+  @SequenceGenerator(name = "payment_log_seq", sequenceName = "payment_log_seq", allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(name = "name", nullable = false)
@@ -38,9 +49,13 @@ public class PaymentLog {
   @Column(name = "mathced_payment_id")
   private Long matchedPaymentId;
 
+  // 중복 수신 방지 키 (클라이언트 키 또는 입금 정보 지문의 SHA-256), 없으면 중복 검사 X
+  @Column(name = "idempotency_key", length = 64, unique = true)
+  private String idempotencyKey;
+
   @Builder
   public PaymentLog(Long id, String name, Integer amount,
-      String targetAccount, LocalDateTime receivedAt) {
+      String targetAccount, LocalDateTime receivedAt, String idempotencyKey) {
     if(amount != null && amount <= 0) {
       throw new IllegalArgumentException("송금 금액은 0원일 수 없습니다.");
     }
@@ -49,6 +64,7 @@ public class PaymentLog {
     this.amount = amount;
     this.targetAccount = targetAccount;
     this.receivedAt = receivedAt != null ? receivedAt : LocalDateTime.now();
+    this.idempotencyKey = idempotencyKey;
     this.isProcessed = false;
   }
 
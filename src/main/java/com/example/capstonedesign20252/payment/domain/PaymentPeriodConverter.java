@@ -0,0 +1,42 @@
+package com.example.capstonedesign20252.payment.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.regex.Pattern;
+
+/**
+ * 결제 기간 "yyyy-MM" ↔ 정수 yyyymm (예: "2026-10" ↔ 202610)
+ *
+ * - 엔티티/쿼리 파라미터는 기존처럼 문자열, 컬럼만 INT (월 단위 RANGE 파티션 키)
+ * - 정수 순서가 기간 순서와 같으므로 BETWEEN/정렬 결과도 그대로
+ */
+@Converter
+public class PaymentPeriodConverter implements AttributeConverter<String, Integer> {
+
+  private static final Pattern PERIOD = Pattern.compile("\\d{4}-(0[1-9]|1[0-2])");
+
+  public static boolean isValid(String period) {
+    return period != null && PERIOD.matcher(period).matches();
+  }
+
+  public static int toNumber(String period) {
+    if (!isValid(period)) {
+      throw new IllegalArgumentException("결제 기간은 yyyy-MM 형식이어야 합니다: " + period);
+    }
+    return Integer.parseInt(period.substring(0, 4)) * 100 + Integer.parseInt(period.substring(5));
+  }
+
+  public static String toPeriod(int number) {
+    return String.format("%04d-%02d", number / 100, number % 100);
+  }
+
+  @Override
+  public Integer convertToDatabaseColumn(String period) {
+    return period == null ? null : toNumber(period);
+  }
+
+  @Override
+  public String convertToEntityAttribute(Integer number) {
+    return number == null ? null : toPeriod(number);
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.math.BigDecimal;
+
+public record GroupPaymentStatsRowDto(
+    Long groupId,
+    Long memberCount,
+    Long paidCount,
+    Long overdueCount,
+    BigDecimal collectedAmount
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.capstonedesign20252.payment.dto;
+
+public record GroupPeriodDto(
+    Long groupId,
+    String period
+) {
+}
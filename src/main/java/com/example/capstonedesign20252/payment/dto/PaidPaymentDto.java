@@ -0,0 +1,13 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PaidPaymentDto(
+    Long paymentId,
+    String memberName,
+    BigDecimal amount,
+    LocalDateTime paidAt,
+    String status
+) {
+}
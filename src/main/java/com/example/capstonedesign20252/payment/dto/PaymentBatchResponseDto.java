@@ -0,0 +1,40 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.util.List;
+
+public record PaymentBatchResponseDto(
+    int total,
+    int matched,
+    int unmatched,
+    int duplicate,
+    int invalid,
+    List<ItemResult> results
+) {
+
+  /**
+   * status: MATCHED(납부 처리 완료), UNMATCHED(저장만 됨),
+   *         DUPLICATE(이미 수신한 알림, paymentLogId는 기존 로그), INVALID(저장 안 됨)
+   */
+  public record ItemResult(
+      int index,
+      String status,
+      Long paymentLogId,
+      Long paymentId,
+      String message
+  ) {
+  }
+
+  public static PaymentBatchResponseDto of(List<ItemResult> results) {
+    int matched = (int) results.stream().filter(r -> "MATCHED".equals(r.status())).count();
+    int duplicate = (int) results.stream().filter(r -> "DUPLICATE".equals(r.status())).count();
+    int invalid = (int) results.stream().filter(r -> "INVALID".equals(r.status())).count();
+    return new PaymentBatchResponseDto(
+        results.size(),
+        matched,
+        results.size() - matched - duplicate - invalid,
+        duplicate,
+        invalid,
+        results
+    );
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PaymentHistoryRowDto(
+    Long paymentId,
+    String period,
+    String memberName,
+    String phone,
+    BigDecimal amount,
+    String status,
+    LocalDateTime dueDate,
+    LocalDateTime paidAt
+) {}
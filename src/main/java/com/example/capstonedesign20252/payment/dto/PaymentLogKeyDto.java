@@ -0,0 +1,7 @@
+package com.example.capstonedesign20252.payment.dto;
+
+public record PaymentLogKeyDto(
+    String idempotencyKey,
+    Long paymentLogId
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재매칭 한 청크 결과, (lastReceivedAt, lastId)는 다음 청크의 keyset 커서
+ */
+public record PaymentRematchChunkDto(
+    int scanned,
+    int matched,
+    LocalDateTime lastReceivedAt,
+    Long lastId
+) {
+}
@@ -7,14 +7,16 @@ public record PaymentRequestDto(
     String name,
     Integer amount,
     String targetAccount,
-    LocalDateTime receivedAt
+    LocalDateTime receivedAt,
+    String idempotencyKey
 ) {
-  public PaymentLog toEntity() {
+  public PaymentLog toEntity(String idempotencyKey) {
     return PaymentLog.builder()
                      .name(this.name)
                      .amount(this.amount)
                      .targetAccount(this.targetAccount)
                      .receivedAt(this.receivedAt != null ? this.receivedAt : LocalDateTime.now())
+                     .idempotencyKey(idempotencyKey)
                      .build();
   }
 }
@@ -0,0 +1,26 @@
+package com.example.capstonedesign20252.payment.dto;
+
+/**
+ * 그룹 + 기간 납부 통계
+ *
+ * - pendingCount에는 결제 레코드가 없는 멤버도 포함
+ * - overdueCount = OVERDUE + 마감일이 지난 PENDING
+ */
+public record PaymentStatsDto(
+    String period,
+    int totalMembers,
+    int paidCount,
+    int pendingCount,
+    int overdueCount,
+    long collectedAmount
+) {
+
+  public int unpaidCount() {
+    return totalMembers - paidCount;
+  }
+
+  // 납부율 (%, 소수점 버림)
+  public int paymentRate() {
+    return totalMembers == 0 ? 0 : (paidCount * 100) / totalMembers;
+  }
+}
@@ -0,0 +1,11 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.math.BigDecimal;
+
+public record PaymentStatusCountsDto(
+    Long paidCount,
+    Long pendingCount,
+    Long overdueCount,
+    BigDecimal collectedAmount
+) {
+}
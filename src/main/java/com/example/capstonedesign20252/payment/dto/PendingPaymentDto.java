@@ -0,0 +1,10 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.math.BigDecimal;
+
+public record PendingPaymentDto(
+    Long paymentId,
+    String memberName,
+    BigDecimal amount
+) {
+}
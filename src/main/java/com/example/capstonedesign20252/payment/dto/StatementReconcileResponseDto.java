@@ -0,0 +1,46 @@
+package com.example.capstonedesign20252.payment.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 통장 거래내역 대조 결과
+ * applied: false면 미리보기 (납부 처리 X)
+ */
+public record StatementReconcileResponseDto(
+    String period,
+    boolean applied,
+    int total,
+    int matched,
+    int ambiguous,
+    int unmatched,
+    List<RowResult> matchedRows,
+    List<RowResult> ambiguousRows,
+    List<RowResult> unmatchedRows
+) {
+
+  public record RowResult(
+      int rowNumber,
+      LocalDateTime transactedAt,
+      String depositorName,
+      long amount,
+      Long paymentId,
+      String reason
+  ) {
+  }
+
+  public static StatementReconcileResponseDto of(String period, boolean applied,
+      List<RowResult> matchedRows, List<RowResult> ambiguousRows, List<RowResult> unmatchedRows) {
+    return new StatementReconcileResponseDto(
+        period,
+        applied,
+        matchedRows.size() + ambiguousRows.size() + unmatchedRows.size(),
+        matchedRows.size(),
+        ambiguousRows.size(),
+        unmatchedRows.size(),
+        matchedRows,
+        ambiguousRows,
+        unmatchedRows
+    );
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.capstonedesign20252.payment.repository;
+
+import com.example.capstonedesign20252.payment.domain.PaymentArchive;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentArchiveRepository extends JpaRepository<PaymentArchive, Long> {
+
+  /**
+   * 그룹 + 기간 결제 건을 보관 테이블로 복사 (INSERT ... SELECT, 원본 삭제는 PaymentRepository)
+   */
+  @Modifying
+  @Query("INSERT INTO PaymentArchive (id, groupId, groupMemberId, amount, status, dueDate, paidAt, createdAt, " +
+      "paymentPeriod, archivedAt) " +
+      "SELECT p.id, p.group.id, p.groupMember.id, p.amount, p.status, p.dueDate, p.paidAt, p.createdAt, " +
+      "p.paymentPeriod, :now " +
+      "FROM Payment p WHERE p.group.id = :groupId AND p.paymentPeriod = :period")
+  int copyFromPayments(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("now") LocalDateTime now);
+
+  @Query("SELECT DISTINCT a.paymentPeriod FROM PaymentArchive a WHERE a.groupId = :groupId")
+  List<String> findPeriodsByGroupId(@Param("groupId") Long groupId);
+
+  @Modifying
+  @Query("DELETE FROM PaymentArchive a WHERE a.groupMemberId = :memberId")
+  void deleteAllByGroupMemberId(@Param("memberId") Long memberId);
+}
@@ -1,8 +1,36 @@
 package com.example.capstonedesign20252.payment.repository;
 
 import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import com.example.capstonedesign20252.payment.dto.PaymentLogKeyDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentLogRepository extends JpaRepository<PaymentLog, Long> {
 
+  @Query("SELECT pl.id FROM PaymentLog pl WHERE pl.idempotencyKey = :key")
+  Optional<Long> findIdByIdempotencyKey(@Param("key") String key);
+
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.PaymentLogKeyDto(pl.idempotencyKey, pl.id) " +
+      "FROM PaymentLog pl WHERE pl.idempotencyKey IN :keys")
+  List<PaymentLogKeyDto> findIdsByIdempotencyKeys(@Param("keys") Collection<String> keys);
+
+  // 재매칭용 keyset 페이지 (idx_processed_received 인덱스 순서)
+  @Query("SELECT pl FROM PaymentLog pl WHERE pl.isProcessed = false " +
+      "AND (pl.receivedAt > :receivedAt OR (pl.receivedAt = :receivedAt AND pl.id > :id)) " +
+      "ORDER BY pl.receivedAt ASC, pl.id ASC")
+  List<PaymentLog> findUnprocessedAfter(@Param("receivedAt") LocalDateTime receivedAt,
+      @Param("id") Long id, Pageable pageable);
+
+  // 한 그룹(입금 통장) 재매칭용 keyset 페이지 (idx_account_processed_received 인덱스 순서)
+  @Query("SELECT pl FROM PaymentLog pl WHERE pl.targetAccount = :targetAccount AND pl.isProcessed = false " +
+      "AND (pl.receivedAt > :receivedAt OR (pl.receivedAt = :receivedAt AND pl.id > :id)) " +
+      "ORDER BY pl.receivedAt ASC, pl.id ASC")
+  List<PaymentLog> findUnprocessedByAccountAfter(@Param("targetAccount") String targetAccount,
+      @Param("receivedAt") LocalDateTime receivedAt, @Param("id") Long id, Pageable pageable);
 }
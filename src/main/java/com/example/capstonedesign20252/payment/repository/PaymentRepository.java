@@ -1,12 +1,26 @@
 package com.example.capstonedesign20252.payment.repository;
 
+import com.example.capstonedesign20252.dashboard.dto.PaymentCountsDto;
+import com.example.capstonedesign20252.fee.dto.MatrixCellDto;
 import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.dto.GroupPeriodDto;
+import com.example.capstonedesign20252.payment.dto.PendingPaymentDto;
+import com.example.capstonedesign20252.payment.dto.PaidPaymentDto;
+import com.example.capstonedesign20252.payment.dto.PaymentHistoryRowDto;
+import com.example.capstonedesign20252.payment.dto.PaymentStatusCountsDto;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,7 +30,8 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
   /**
    * 특정 그룹의 모든 결제 정보
    */
-  List<Payment> findByGroupId(Long groupId);
+  @Query("SELECT p FROM Payment p WHERE p.group.id = :groupId")
+  List<Payment> findByGroupId(@Param("groupId") Long groupId);
 
   /**
    * 특정 그룹의 PENDING 상태 결제 건들
@@ -54,10 +69,115 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
       @Param("period") String period,
       @Param("status") String status);
 
+  // 입금자명 인덱스 적재용 (기간 내 PENDING 결제, 오래된 순)
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.PendingPaymentDto(p.id, gm.name, p.amount) " +
+      "FROM Payment p JOIN p.groupMember gm " +
+      "WHERE p.group.id = :groupId AND p.paymentPeriod = :period AND p.status = 'PENDING' " +
+      "ORDER BY p.createdAt ASC, p.id ASC")
+  List<PendingPaymentDto> findPendingPaymentEntries(@Param("groupId") Long groupId,
+      @Param("period") String period);
+
+  // 최근 납부 내역 (group_id, status, paid_at) 인덱스 역순 조회, 건수는 pageable로 제한
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.PaidPaymentDto(p.id, gm.name, p.amount, p.paidAt, p.status) " +
+      "FROM Payment p JOIN p.groupMember gm " +
+      "WHERE p.group.id = :groupId AND p.status = 'PAID' AND p.paidAt IS NOT NULL " +
+      "ORDER BY p.paidAt DESC, p.id DESC")
+  List<PaidPaymentDto> findRecentPaidPayments(@Param("groupId") Long groupId, Pageable pageable);
+
+  // PENDING인 경우에만 납부 처리 (동시 입금 시 한 건만 성공)
+  @Modifying
+  @Query("UPDATE Payment p SET p.status = 'PAID', p.paidAt = :paidAt " +
+      "WHERE p.id = :paymentId AND p.status = 'PENDING'")
+  int markAsPaidIfPending(@Param("paymentId") Long paymentId,
+      @Param("paidAt") LocalDateTime paidAt);
+
+  // 미납(PENDING, OVERDUE)인 경우에만 납부 처리 (수동 확인, 자동 매칭과 겹쳐도 한 번만 성공)
+  @Modifying
+  @Query("UPDATE Payment p SET p.status = 'PAID', p.paidAt = :paidAt " +
+      "WHERE p.id = :paymentId AND p.status IN ('PENDING', 'OVERDUE')")
+  int markAsPaidIfUnpaid(@Param("paymentId") Long paymentId,
+      @Param("paidAt") LocalDateTime paidAt);
+
+  // 대시보드 집계 재계산용 (기간별 납부/미납 건수, 금액)
+  @Query("SELECT new com.example.capstonedesign20252.dashboard.dto.PaymentCountsDto(p.paymentPeriod, " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN 0 ELSE 1 END), " +
+      "SUM(p.amount), " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN p.amount ELSE 0 END)) " +
+      "FROM Payment p WHERE p.group.id = :groupId GROUP BY p.paymentPeriod")
+  List<PaymentCountsDto> countByGroupIdGroupByPeriod(@Param("groupId") Long groupId);
+
+  // 납부 통계 (연체는 마감 스케줄러가 OVERDUE로 바꿔 둔 상태 그대로 집계)
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.PaymentStatusCountsDto(" +
+      "SUM(CASE WHEN p.status = 'PAID' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'PENDING' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'OVERDUE' THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN p.status = 'PAID' THEN p.amount ELSE 0 END)) " +
+      "FROM Payment p WHERE p.group.id = :groupId AND p.paymentPeriod = :period")
+  PaymentStatusCountsDto countStatusByGroupIdAndPeriod(@Param("groupId") Long groupId,
+      @Param("period") String period);
+
+  /**
+   * 기간의 PENDING 결제를 한 번에 OVERDUE로 변경 (수금 기간 종료), 변경 건수 반환
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Payment p SET p.status = 'OVERDUE' " +
+      "WHERE p.group.id = :groupId AND p.paymentPeriod = :period AND p.status = 'PENDING'")
+  int markOverdueByGroupIdAndPeriod(@Param("groupId") Long groupId,
+      @Param("period") String period);
+
+  /**
+   * 그룹 전체 멤버의 기간 결제 건을 한 번에 생성 (INSERT ... SELECT, 이미 있는 멤버는 제외)
+   */
+  @Modifying
+  @Query("INSERT INTO Payment (group, groupMember, amount, status, dueDate, paymentPeriod, createdAt) " +
+      "SELECT gm.group, gm, :amount, 'PENDING', :dueDate, :period, :now " +
+      "FROM GroupMember gm " +
+      "WHERE gm.group.id = :groupId " +
+      "AND NOT EXISTS (SELECT 1 FROM Payment p WHERE p.groupMember = gm AND p.paymentPeriod = :period)")
+  int insertPendingForGroup(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      @Param("amount") BigDecimal amount,
+      @Param("dueDate") LocalDateTime dueDate,
+      @Param("now") LocalDateTime now);
+
   @Modifying
   @Query("DELETE FROM Payment p WHERE p.groupMember.id = :memberId")
   void deleteAllByGroupMemberId(@Param("memberId") Long memberId);
 
+  @Modifying
+  @Query("DELETE FROM Payment p WHERE p.group.id = :groupId AND p.paymentPeriod = :period")
+  int deleteByGroupIdAndPeriod(@Param("groupId") Long groupId, @Param("period") String period);
+
+  /**
+   * 보존 기간(cutoff 이전)이 지난 결제 건이 남아 있는 그룹 + 기간
+   */
+  @Query("SELECT DISTINCT new com.example.capstonedesign20252.payment.dto.GroupPeriodDto(p.group.id, p.paymentPeriod) " +
+      "FROM Payment p WHERE p.paymentPeriod < :cutoff")
+  List<GroupPeriodDto> findGroupPeriodsBefore(@Param("cutoff") String cutoff);
+
 
   long countByGroupMemberId(Long groupMemberId);
+
+  /**
+   * 그룹 납부 내역 내보내기용 스트림 (기간 최신순, period가 null이면 전체 기간)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("SELECT new com.example.capstonedesign20252.payment.dto.PaymentHistoryRowDto(" +
+      "p.id, p.paymentPeriod, gm.name, gm.phone, p.amount, p.status, p.dueDate, p.paidAt) " +
+      "FROM Payment p JOIN p.groupMember gm " +
+      "WHERE p.group.id = :groupId AND (:period IS NULL OR p.paymentPeriod = :period) " +
+      "ORDER BY p.paymentPeriod DESC, gm.name, p.id")
+  Stream<PaymentHistoryRowDto> streamHistoryByGroupId(@Param("groupId") Long groupId,
+      @Param("period") String period);
+
+  /**
+   * 기간 범위의 멤버별 납부 상태
+   */
+  @Query("SELECT new com.example.capstonedesign20252.fee.dto.MatrixCellDto(p.groupMember.id, p.paymentPeriod, p.status) " +
+      "FROM Payment p " +
+      "WHERE p.group.id = :groupId AND p.paymentPeriod BETWEEN :fromPeriod AND :toPeriod")
+  List<MatrixCellDto> findMatrixCells(@Param("groupId") Long groupId,
+      @Param("fromPeriod") String fromPeriod,
+      @Param("toPeriod") String toPeriod);
 }
@@ -0,0 +1,143 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.lease.SchedulerLeaseService;
+import com.example.capstonedesign20252.payment.config.PaymentPartitionProperties;
+import com.example.capstonedesign20252.payment.dto.GroupPeriodDto;
+import com.example.capstonedesign20252.payment.repository.PaymentArchiveRepository;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import com.example.capstonedesign20252.paymentCycle.service.PaymentCycleSnapshotService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 종료 기간 결제 건 보관 + 월 파티션 미리 생성
+ *
+ * - 보존 기간(retentionMonths)보다 오래된 그룹 + 기간 중 수금 기간이 종료되고 스냅샷이 있는 것만 대상
+ *   (회비 현황은 스냅샷으로 계속 조회되므로 원본 결제 건은 payments_archive로 옮김)
+ * - 그룹 + 기간마다 INSERT ... SELECT + DELETE 한 트랜잭션
+ * - scheduler_lease 점유를 얻은 인스턴스 한 곳에서만 실행
+ */
+@Slf4j
+@Component
+public class PaymentArchiveJob {
+
+  private static final String LEASE_NAME = "payment-partition";
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentArchiveRepository paymentArchiveRepository;
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final PaymentCycleSnapshotService paymentCycleSnapshotService;
+  private final PaymentPartitionManager paymentPartitionManager;
+  private final SchedulerLeaseService schedulerLeaseService;
+  private final PaymentPartitionProperties properties;
+  private final TransactionTemplate requiresNewTemplate;
+  private final Counter archivedCounter;
+
+  public PaymentArchiveJob(PaymentRepository paymentRepository,
+      PaymentArchiveRepository paymentArchiveRepository,
+      PaymentCycleRepository paymentCycleRepository,
+      PaymentCycleSnapshotService paymentCycleSnapshotService,
+      PaymentPartitionManager paymentPartitionManager,
+      SchedulerLeaseService schedulerLeaseService,
+      PaymentPartitionProperties properties,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.paymentRepository = paymentRepository;
+    this.paymentArchiveRepository = paymentArchiveRepository;
+    this.paymentCycleRepository = paymentCycleRepository;
+    this.paymentCycleSnapshotService = paymentCycleSnapshotService;
+    this.paymentPartitionManager = paymentPartitionManager;
+    this.schedulerLeaseService = schedulerLeaseService;
+    this.properties = properties;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.archivedCounter = Counter.builder("payment.archive.payments")
+                                  .description("payments_archive로 옮긴 결제 건수")
+                                  .register(meterRegistry);
+  }
+
+  @Scheduled(cron = "${payment.partition.cron:0 30 3 * * *}")
+  public void scheduledRun() {
+    if (!schedulerLeaseService.tryAcquire(LEASE_NAME, properties.getLeaseDuration())) {
+      log.debug("결제 보관 작업 - 다른 인스턴스가 실행 중");
+      return;
+    }
+    try {
+      if (paymentPartitionManager.isSupported()) {
+        paymentPartitionManager.ensurePartitions(YearMonth.now());
+      }
+      if (properties.isArchiveEnabled()) {
+        run(YearMonth.now());
+      }
+    } finally {
+      schedulerLeaseService.release(LEASE_NAME);
+    }
+  }
+
+  /**
+   * now 기준 보존 기간이 지난 종료 기간 결제 건 보관 (점유 없이 바로 실행), 옮긴 결제 건수 반환
+   */
+  public int run(YearMonth now) {
+    long startedAt = System.currentTimeMillis();
+    String cutoff = now.minusMonths(properties.getRetentionMonths()).toString();
+    List<GroupPeriodDto> targets = paymentRepository.findGroupPeriodsBefore(cutoff);
+
+    int archived = 0;
+    int skipped = 0;
+    for (GroupPeriodDto target : targets) {
+      try {
+        if (!ensureSnapshot(target)) {
+          skipped++;
+          continue;
+        }
+        archived += archive(target);
+      } catch (Exception e) {
+        log.error("결제 보관 실패 - groupId: {}, period: {}", target.groupId(), target.period(), e);
+      }
+    }
+
+    archivedCounter.increment(archived);
+    if (!targets.isEmpty()) {
+      log.info("결제 보관 완료 - 기준: {} 이전, 대상: {}개, 건너뜀: {}개, 보관: {}건, {}ms",
+          cutoff, targets.size(), skipped, archived, System.currentTimeMillis() - startedAt);
+    }
+    return archived;
+  }
+
+  // 스냅샷 도입 전에 종료된 기간은 먼저 기록, 진행 중이거나 수금 기간이 없는 기간은 보관하지 않음
+  private boolean ensureSnapshot(GroupPeriodDto target) {
+    if (paymentCycleSnapshotService.findSummary(target.groupId(), target.period()).isPresent()) {
+      return true;
+    }
+    List<PaymentCycle> cycles = paymentCycleRepository.findAllByGroupIdAndPeriod(target.groupId(), target.period());
+    if (cycles.isEmpty() || cycles.stream().anyMatch(PaymentCycle::isActive)) {
+      log.debug("결제 보관 건너뜀 - groupId: {}, period: {}", target.groupId(), target.period());
+      return false;
+    }
+    paymentCycleSnapshotService.write(cycles.get(0).getId());
+    return true;
+  }
+
+  private int archive(GroupPeriodDto target) {
+    Integer moved = requiresNewTemplate.execute(status -> {
+      int copied = paymentArchiveRepository.copyFromPayments(target.groupId(), target.period(), LocalDateTime.now());
+      int deleted = paymentRepository.deleteByGroupIdAndPeriod(target.groupId(), target.period());
+      if (copied != deleted) {
+        throw new IllegalStateException("보관 건수 불일치 - 복사: " + copied + ", 삭제: " + deleted);
+      }
+      return deleted;
+    });
+    return moved == null ? 0 : moved;
+  }
+}
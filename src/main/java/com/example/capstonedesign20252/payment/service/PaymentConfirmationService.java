@@ -0,0 +1,42 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 납부 수동 확인
+ *
+ * 자동 매칭과 같은 조건부 UPDATE로 처리해서 동시에 납부돼도 한 번만 PAID + PaymentPaidEvent
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmationService {
+
+  private final PaymentRepository paymentRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * @return 이번 호출로 납부 처리됐으면 true, 이미 납부된 건이면 false
+   */
+  @Transactional
+  public boolean confirm(Long paymentId, LocalDateTime paidAt) {
+    Payment payment = paymentRepository.findById(paymentId)
+                                       .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다. paymentId: " + paymentId));
+
+    if (paymentRepository.markAsPaidIfUnpaid(paymentId, paidAt) == 0) {
+      return false;
+    }
+
+    eventPublisher.publishEvent(new PaymentPaidEvent(
+        payment.getGroup().getId(), paymentId, payment.getPaymentPeriod(), payment.getAmount(), false));
+    return true;
+  }
+}
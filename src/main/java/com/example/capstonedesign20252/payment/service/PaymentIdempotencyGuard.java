@@ -0,0 +1,118 @@
+package com.example.capstonedesign20252.payment.service;
+
+import static com.example.capstonedesign20252.common.transaction.TransactionCallbacks.afterCommit;
+
+import com.example.capstonedesign20252.payment.config.PaymentIngestionProperties;
+import com.example.capstonedesign20252.payment.dto.PaymentLogKeyDto;
+import com.example.capstonedesign20252.payment.dto.PaymentRequestDto;
+import com.example.capstonedesign20252.payment.repository.PaymentLogRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입금 알림 중복 수신 검사
+ *
+ * - 키: 클라이언트가 보낸 idempotencyKey, 없으면 (name, amount, targetAccount, receivedAt) 지문
+ * - receivedAt 없는 알림은 서버 시각으로 저장되므로 중복 검사 X
+ * - 최근 키는 메모리 LRU에서 먼저 확인, 없으면 payment_log.idempotency_key unique 인덱스 조회
+ */
+@Slf4j
+@Component
+public class PaymentIdempotencyGuard {
+
+  private final PaymentLogRepository paymentLogRepository;
+  private final Cache<String, Long> recentKeys;
+
+  public PaymentIdempotencyGuard(PaymentLogRepository paymentLogRepository,
+      PaymentIngestionProperties properties) {
+    this.paymentLogRepository = paymentLogRepository;
+    this.recentKeys = Caffeine.newBuilder()
+                              .maximumSize(properties.getIdempotencyCacheSize())
+                              .expireAfterWrite(Duration.ofHours(properties.getIdempotencyCacheTtlHours()))
+                              .build();
+  }
+
+  /**
+   * @return 중복 검사 키, 검사 대상이 아니면 null
+   */
+  public String keyOf(PaymentRequestDto requestDto) {
+    if (requestDto.idempotencyKey() != null && !requestDto.idempotencyKey().isBlank()) {
+      return sha256("client|" + requestDto.idempotencyKey().trim());
+    }
+    if (requestDto.receivedAt() == null) {
+      return null;
+    }
+    return sha256(String.join("|", "deposit",
+        String.valueOf(requestDto.name()).trim(),
+        String.valueOf(requestDto.amount()),
+        String.valueOf(requestDto.targetAccount()).trim(),
+        requestDto.receivedAt().toString()));
+  }
+
+  /**
+   * @return 이미 저장된 PaymentLog id
+   */
+  public Optional<Long> findDuplicate(String key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    Long cached = recentKeys.getIfPresent(key);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    Optional<Long> stored = paymentLogRepository.findIdByIdempotencyKey(key);
+    stored.ifPresent(id -> recentKeys.put(key, id));
+    return stored;
+  }
+
+  /**
+   * 배치용: 캐시에 없는 키는 한 번의 IN 쿼리로 조회
+   * @return 키 → 이미 저장된 PaymentLog id
+   */
+  public Map<String, Long> findDuplicates(Collection<String> keys) {
+    Map<String, Long> duplicates = new HashMap<>(recentKeys.getAllPresent(keys));
+
+    List<String> misses = keys.stream()
+                              .filter(key -> !duplicates.containsKey(key))
+                              .distinct()
+                              .toList();
+    if (!misses.isEmpty()) {
+      for (PaymentLogKeyDto stored : paymentLogRepository.findIdsByIdempotencyKeys(misses)) {
+        duplicates.put(stored.idempotencyKey(), stored.paymentLogId());
+        recentKeys.put(stored.idempotencyKey(), stored.paymentLogId());
+      }
+    }
+    return duplicates;
+  }
+
+  /**
+   * 저장 커밋 후 캐시에 등록 (롤백된 키가 중복으로 판정되지 않도록)
+   */
+  public void remember(String key, Long paymentLogId) {
+    if (key != null) {
+      afterCommit(() -> recentKeys.put(key, paymentLogId));
+    }
+  }
+
+  private static String sha256(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 미지원", e);
+    }
+  }
+}
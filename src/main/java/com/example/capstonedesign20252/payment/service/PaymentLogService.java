@@ -1,8 +1,38 @@
 package com.example.capstonedesign20252.payment.service;
 
 import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import com.example.capstonedesign20252.payment.dto.PaymentBatchResponseDto;
+import com.example.capstonedesign20252.payment.dto.PaymentRematchChunkDto;
 import com.example.capstonedesign20252.payment.dto.PaymentRequestDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface PaymentLogService {
   void savePaymentLog(PaymentRequestDto paymentRequestDto);
+
+  /**
+   * 입금 알림 여러 건을 한 트랜잭션에서 저장(배치 INSERT) 후 매칭
+   * 검사 후 다른 요청이 같은 키를 먼저 저장하면 DataIntegrityViolationException (다시 호출하면 그 항목은 DUPLICATE)
+   */
+  PaymentBatchResponseDto savePaymentLogs(List<PaymentRequestDto> paymentRequestDtos);
+
+  /**
+   * 입금 알림을 PaymentLog로만 저장 (매칭 X)
+   * @return 이미 수신한 알림이면 empty (저장 X)
+   */
+  Optional<PaymentLog> storePaymentLog(PaymentRequestDto paymentRequestDto);
+
+  /**
+   * 저장된 PaymentLog를 그룹/수금 기간/멤버와 매칭
+   * @return 납부 처리까지 완료되면 true
+   */
+  boolean matchPaymentLog(Long paymentLogId);
+
+  /**
+   * (afterReceivedAt, afterId) 이후의 미처리 PaymentLog를 최대 limit건 재매칭
+   * @param targetAccount 이 통장으로 들어온 로그만 (null이면 전체)
+   */
+  PaymentRematchChunkDto rematchUnprocessed(String targetAccount, LocalDateTime afterReceivedAt, Long afterId,
+      int limit);
 }
@@ -1,21 +1,31 @@
 package com.example.capstonedesign20252.payment.service;
 
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.repository.GroupRepository;
-import com.example.capstonedesign20252.groupMember.domain.GroupMember;
-import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
-import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.group.service.GroupRoutingIndex;
 import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import com.example.capstonedesign20252.payment.dto.PaymentBatchResponseDto;
+import com.example.capstonedesign20252.payment.dto.PaymentRematchChunkDto;
 import com.example.capstonedesign20252.payment.dto.PaymentRequestDto;
 import com.example.capstonedesign20252.payment.repository.PaymentLogRepository;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PendingPaymentIndex.PendingPayment;
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
 import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,99 +37,247 @@ public class PaymentLogServiceImpl implements PaymentLogService {
   private final PaymentLogRepository paymentLogRepository;
   private final PaymentCycleRepository paymentCycleRepository;
   private final PaymentRepository paymentRepository;
-  private final GroupMemberRepository groupMemberRepository;
   private final GroupRepository groupRepository;
+  private final GroupRoutingIndex groupRoutingIndex;
+  private final PendingPaymentIndex pendingPaymentIndex;
+  private final PaymentIdempotencyGuard paymentIdempotencyGuard;
+  private final ApplicationEventPublisher eventPublisher;
 
+  @Override
   @Transactional
   public void savePaymentLog(PaymentRequestDto requestDto) {
+    storePaymentLog(requestDto).ifPresent(paymentLog -> match(paymentLog, new MatchContext()));
+  }
+
+  @Override
+  @Transactional
+  public PaymentBatchResponseDto savePaymentLogs(List<PaymentRequestDto> requestDtos) {
+    log.info("입금 알림 배치 수신 - {}건", requestDtos.size());
+
+    PaymentBatchResponseDto.ItemResult[] results = new PaymentBatchResponseDto.ItemResult[requestDtos.size()];
+    String[] keys = new String[requestDtos.size()];
+
+    for (int i = 0; i < requestDtos.size(); i++) {
+      PaymentRequestDto requestDto = requestDtos.get(i);
+      if (requestDto == null || requestDto.name() == null
+          || requestDto.amount() == null || requestDto.targetAccount() == null) {
+        results[i] = new PaymentBatchResponseDto.ItemResult(i, "INVALID", null, null, "필수 값(name, amount, targetAccount)이 없습니다.");
+      } else {
+        keys[i] = paymentIdempotencyGuard.keyOf(requestDto);
+      }
+    }
+
+    // 이미 저장된 알림 확인 (캐시 → 한 번의 IN 쿼리)
+    Map<String, Long> duplicates = paymentIdempotencyGuard.findDuplicates(
+        Arrays.stream(keys).filter(Objects::nonNull).toList());
+
+    List<PaymentLog> paymentLogs = new ArrayList<>();
+    List<Integer> indexes = new ArrayList<>();
+    Map<String, PaymentLog> batchKeys = new HashMap<>();
+    Map<Integer, String> repeatedInBatch = new HashMap<>();
+
+    for (int i = 0; i < requestDtos.size(); i++) {
+      if (results[i] != null) {
+        continue;
+      }
+      String key = keys[i];
+      if (key != null && duplicates.containsKey(key)) {
+        results[i] = new PaymentBatchResponseDto.ItemResult(i, "DUPLICATE", duplicates.get(key), null, null);
+        continue;
+      }
+      if (key != null && batchKeys.containsKey(key)) {
+        repeatedInBatch.put(i, key);
+        continue;
+      }
+
+      try {
+        PaymentLog paymentLog = requestDtos.get(i).toEntity(key);
+        paymentLogs.add(paymentLog);
+        indexes.add(i);
+        if (key != null) {
+          batchKeys.put(key, paymentLog);
+        }
+      } catch (IllegalArgumentException e) {
+        results[i] = new PaymentBatchResponseDto.ItemResult(i, "INVALID", null, null, e.getMessage());
+      }
+    }
+
+    // 시퀀스 id는 미리 할당되고 INSERT는 batch_size 단위로 묶어 바로 flush
+    // (검사 후 다른 요청이 같은 키를 먼저 커밋했으면 여기서 unique 위반 → 컨트롤러가 배치 재시도)
+    paymentLogRepository.saveAll(paymentLogs);
+    paymentLogRepository.flush();
+    paymentLogs.forEach(paymentLog ->
+        paymentIdempotencyGuard.remember(paymentLog.getIdempotencyKey(), paymentLog.getId()));
+    repeatedInBatch.forEach((index, key) -> results[index] = new PaymentBatchResponseDto.ItemResult(
+        index, "DUPLICATE", batchKeys.get(key).getId(), null, null));
+
+    MatchContext context = new MatchContext();
+    for (int i = 0; i < paymentLogs.size(); i++) {
+      PaymentLog paymentLog = paymentLogs.get(i);
+      int index = indexes.get(i);
+
+      boolean matched = match(paymentLog, context);
+      results[index] = new PaymentBatchResponseDto.ItemResult(
+          index,
+          matched ? "MATCHED" : "UNMATCHED",
+          paymentLog.getId(),
+          paymentLog.getMatchedPaymentId(),
+          null
+      );
+    }
+
+    PaymentBatchResponseDto response = PaymentBatchResponseDto.of(List.of(results));
+    log.info("입금 알림 배치 처리 완료 - 전체: {}건, 매칭: {}건, 미매칭: {}건, 중복: {}건, 오류: {}건",
+        response.total(), response.matched(), response.unmatched(), response.duplicate(), response.invalid());
+    return response;
+  }
+
+  @Override
+  @Transactional
+  public Optional<PaymentLog> storePaymentLog(PaymentRequestDto requestDto) {
     log.info("입금 알림 수신 - name: {}, amount: {}, accountName: {}",
         requestDto.name(), requestDto.amount(), requestDto.targetAccount());
 
-    PaymentLog paymentLog = PaymentLog.builder()
-                                      .name(requestDto.name())
-                                      .amount(requestDto.amount())
-                                      .targetAccount(requestDto.targetAccount())
-                                      .receivedAt(requestDto.receivedAt() != null ? requestDto.receivedAt() : LocalDateTime.now())
-                                      .build();
+    String key = paymentIdempotencyGuard.keyOf(requestDto);
+    Optional<Long> duplicate = paymentIdempotencyGuard.findDuplicate(key);
+    if (duplicate.isPresent()) {
+      log.info("중복 입금 알림 - 기존 logId: {}, 저장/매칭 스킵", duplicate.get());
+      return Optional.empty();
+    }
+
+    PaymentLog paymentLog = requestDto.toEntity(key);
     paymentLogRepository.save(paymentLog);
+    paymentIdempotencyGuard.remember(key, paymentLog.getId());
 
     log.info("PaymentLog 저장 완료 - logId: {}", paymentLog.getId());
+    return Optional.of(paymentLog);
+  }
+
+  @Override
+  @Transactional
+  public boolean matchPaymentLog(Long paymentLogId) {
+    Optional<PaymentLog> paymentLogOpt = paymentLogRepository.findById(paymentLogId);
+
+    if (paymentLogOpt.isEmpty()) {
+      log.warn("PaymentLog 없음 - logId: {}, 매칭 스킵", paymentLogId);
+      return false;
+    }
+
+    PaymentLog paymentLog = paymentLogOpt.get();
+    if (Boolean.TRUE.equals(paymentLog.getIsProcessed())) {
+      log.info("이미 처리된 PaymentLog - logId: {}", paymentLogId);
+      return true;
+    }
+    return match(paymentLog, new MatchContext());
+  }
+
+  @Override
+  @Transactional
+  public PaymentRematchChunkDto rematchUnprocessed(String targetAccount, LocalDateTime afterReceivedAt,
+      Long afterId, int limit) {
+    PageRequest page = PageRequest.of(0, limit);
+    List<PaymentLog> paymentLogs = targetAccount == null
+        ? paymentLogRepository.findUnprocessedAfter(afterReceivedAt, afterId, page)
+        : paymentLogRepository.findUnprocessedByAccountAfter(targetAccount, afterReceivedAt, afterId, page);
 
+    if (paymentLogs.isEmpty()) {
+      return new PaymentRematchChunkDto(0, 0, afterReceivedAt, afterId);
+    }
+
+    MatchContext context = new MatchContext();
+    int matched = 0;
+    for (PaymentLog paymentLog : paymentLogs) {
+      if (match(paymentLog, context)) {
+        matched++;
+      }
+    }
+
+    PaymentLog last = paymentLogs.get(paymentLogs.size() - 1);
+    return new PaymentRematchChunkDto(paymentLogs.size(), matched, last.getReceivedAt(), last.getId());
+  }
+
+  private boolean match(PaymentLog paymentLog, MatchContext context) {
     // 1. 그룹 매칭
-    Optional<Group> groupOpt = groupRepository
-        .findByAccountName(requestDto.targetAccount());
+    Optional<Group> groupOpt = context.groups.computeIfAbsent(
+        paymentLog.getTargetAccount(),
+        accountName -> groupRoutingIndex.findExact(accountName).flatMap(groupRepository::findById));
 
     if (groupOpt.isEmpty()) {
-      log.info("매칭되는 그룹 없음 - accountName: '{}', 매칭 스킵", requestDto.targetAccount());
-      return;
+      log.info("매칭되는 그룹 없음 - accountName: '{}', 매칭 스킵", paymentLog.getTargetAccount());
+      return false;
     }
 
     Group group = groupOpt.get();
     log.info("그룹 매칭 성공 - groupId: {}, groupName: {}", group.getId(), group.getGroupName());
 
     // 2. 활성 수금 기간 매칭
-    Optional<PaymentCycle> activeCycleOpt = paymentCycleRepository
-        .findByGroupIdAndStatus(group.getId(), "ACTIVE");
+    Optional<PaymentCycle> activeCycleOpt = context.activeCycles.computeIfAbsent(
+        group.getId(), groupId -> paymentCycleRepository.findByGroupIdAndStatus(groupId, "ACTIVE"));
 
     if (activeCycleOpt.isEmpty()) {
       log.info("활성화된 수금 기간 없음 - groupId: {}, 매칭 스킵", group.getId());
-      return;
+      return false;
     }
 
     PaymentCycle cycle = activeCycleOpt.get();
     log.info("수금 기간 매칭 - cycleId: {}, period: {}", cycle.getId(), cycle.getPeriod());
 
-    // 3. 동명이인 처리: 해당 이름의 모든 멤버 조회
-    List<GroupMember> members = groupMemberRepository
-        .findAllByGroupIdAndName(group.getId(), requestDto.name());
+    if (!isWithinCycle(paymentLog.getReceivedAt(), cycle)) {
+      log.info("수금 기간 이전 입금 - logId: {}, receivedAt: {}, 기간 시작: {}, 매칭 스킵",
+          paymentLog.getId(), paymentLog.getReceivedAt(), cycle.getStartDate());
+      return false;
+    }
 
-    if (members.isEmpty()) {
-      log.warn("멤버 매칭 실패 - groupId: {}, name: '{}'", group.getId(), requestDto.name());
-      return;
+    // 3. 입금자명 인덱스 조회 (동명이인 포함, 오래된 PENDING 결제 순)
+    List<PendingPayment> candidates = pendingPaymentIndex.find(
+        group.getId(), cycle.getPeriod(), paymentLog.getName());
+
+    if (candidates.isEmpty()) {
+      log.warn("PENDING Payment 없음 - groupId: {}, name: '{}'", group.getId(), paymentLog.getName());
+      return false;
     }
 
-    log.info("동명이인 확인 - name: '{}', 찾은 멤버 수: {}", requestDto.name(), members.size());
+    // 4. 미납자 우선 매칭: PENDING인 경우에만 납부 처리 (조건부 UPDATE)
+    int paidAmount = paymentLog.getAmount();
 
-    // 4. 미납자 우선 매칭: PENDING 상태인 Payment가 있는 멤버 찾기
-    GroupMember matchedMember = null;
-    Payment matchedPayment = null;
+    for (PendingPayment candidate : candidates) {
+      int requiredAmount = candidate.amount().intValue();
 
-    for (GroupMember member : members) {
-      Optional<Payment> paymentOpt = paymentRepository
-          .findByGroupMemberIdAndPaymentPeriodAndStatus(
-              member.getId(), cycle.getPeriod(), "PENDING");
+      if (paidAmount < requiredAmount) {
+        log.info("부분 납부 감지 - name: {}, paid: {}, required: {}",
+            paymentLog.getName(), paidAmount, requiredAmount);
+        return false;
+      }
 
-      if (paymentOpt.isPresent()) {
-        matchedMember = member;
-        matchedPayment = paymentOpt.get();
-        log.info("미납자 매칭 성공 - memberId: {}, name: {}", member.getId(), member.getName());
-        break;
-      } else {
-        log.info("이미 납부 완료 - memberId: {}, name: {}", member.getId(), member.getName());
+      int updated = paymentRepository.markAsPaidIfPending(candidate.paymentId(), paymentLog.getReceivedAt());
+
+      if (updated == 1) {
+        paymentLog.markAsProcessed(candidate.paymentId());
+        eventPublisher.publishEvent(new PaymentPaidEvent(
+            group.getId(), candidate.paymentId(), cycle.getPeriod(), candidate.amount(), true));
+        log.info("납부 완료 처리 - name: {}, amount: {}, paymentId: {}",
+            paymentLog.getName(), paidAmount, candidate.paymentId());
+        return true;
       }
+      pendingPaymentIndex.remove(group.getId(), candidate.paymentId());
+      log.info("이미 납부 완료 - paymentId: {}", candidate.paymentId());
     }
 
-    // 5. 매칭된 미납자가 없으면 종료
-    if (matchedMember == null || matchedPayment == null) {
-      log.warn("PENDING Payment 없음 - 동명이인 {}명 모두 이미 납부 완료 또는 Payment 없음", members.size());
-      return;
-    }
+    log.warn("PENDING Payment 없음 - 동명이인 {}건 모두 이미 납부 완료", candidates.size());
+    return false;
+  }
 
-    // 6. 납부 처리
-    int requiredAmount = matchedPayment.getAmount().intValue();
-    int paidAmount = requestDto.amount();
-
-    if (paidAmount >= requiredAmount) {
-      LocalDateTime paidAt = requestDto.receivedAt() != null ?
-          requestDto.receivedAt() : LocalDateTime.now();
-      matchedPayment.markAsPaid(paidAt);
-      paymentLog.markAsProcessed(matchedPayment.getId());
-
-      log.info("납부 완료 처리 - member: {}, amount: {}, paymentId: {}",
-          matchedMember.getName(), paidAmount, matchedPayment.getId());
-    } else {
-      log.info("부분 납부 감지 - member: {}, paid: {}, required: {}",
-          matchedMember.getName(), paidAmount, requiredAmount);
-    }
+  // 기간 시작 이후 또는 기간과 같은 달 입금만 (지난 기간의 초과/중복 입금이 새 기간 납부로 처리되지 않도록)
+  private static boolean isWithinCycle(LocalDateTime receivedAt, PaymentCycle cycle) {
+    return !receivedAt.isBefore(cycle.getStartDate())
+        || YearMonth.from(receivedAt).toString().equals(cycle.getPeriod());
+  }
+
+  /**
+   * 한 작업 단위(단건/배치) 안에서 그룹, 활성 수금 기간 조회 결과 재사용
+   */
+  private static class MatchContext {
+    private final Map<String, Optional<Group>> groups = new HashMap<>();
+    private final Map<Long, Optional<PaymentCycle>> activeCycles = new HashMap<>();
   }
 }
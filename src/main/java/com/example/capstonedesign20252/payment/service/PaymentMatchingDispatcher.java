@@ -0,0 +1,132 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.group.service.GroupRoutingIndex;
+import com.example.capstonedesign20252.payment.config.PaymentIngestionProperties;
+import com.example.capstonedesign20252.payment.domain.PaymentLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 PaymentLog의 매칭을 그룹별 레인에서 비동기로 처리
+ *
+ * - 통장 이름으로 찾은 groupId로 레인 선택 (그룹을 못 찾으면 통장 이름으로)
+ * - 같은 그룹의 입금은 한 레인에서 순서대로 매칭되므로 그룹 내 락 경합 없음
+ * - 레인 큐가 가득 차면 enqueueTimeout 동안 자리를 기다리고, 그래도 없으면 매칭은 재매칭 작업에 맡김
+ *   (요청 스레드에서 직접 매칭하면 같은 그룹 레인과 동시에 실행되므로 하지 않음)
+ * - 종료 시 큐에 남은 작업을 shutdown-timeout 동안 처리 후 종료
+ * - 처리하지 못한 PaymentLog는 is_processed = false로 DB에 남음
+ *
+ * 레인을 거치는 것은 단건 입금 알림의 비동기 경로(payment.ingestion.async=true)뿐
+ * 배치 수신, 재매칭 작업은 각자의 트랜잭션 안에서 바로 매칭하므로 레인과 동시에 같은 그룹을 처리할 수 있고,
+ * 이때는 조건부 UPDATE(markAsPaidIfPending)가 한 번만 납부 처리되도록 보장
+ */
+@Slf4j
+@Component
+public class PaymentMatchingDispatcher {
+
+  private final PaymentLogService paymentLogService;
+  private final GroupRoutingIndex groupRoutingIndex;
+  private final PaymentIngestionProperties properties;
+  private final PaymentMatchingLanes lanes;
+
+  private final Timer lagTimer;
+  private final Timer matchTimer;
+  private final Counter matchedCounter;
+  private final Counter unmatchedCounter;
+  private final Counter failedCounter;
+  private final Counter deferredCounter;
+
+  public PaymentMatchingDispatcher(PaymentLogService paymentLogService,
+      GroupRoutingIndex groupRoutingIndex,
+      PaymentIngestionProperties properties,
+      MeterRegistry meterRegistry) {
+    this.paymentLogService = paymentLogService;
+    this.groupRoutingIndex = groupRoutingIndex;
+    this.properties = properties;
+    this.lanes = new PaymentMatchingLanes(
+        "payment-matching-",
+        properties.getWorkerThreads(),
+        Math.max(1, properties.getQueueCapacity() / properties.getWorkerThreads()),
+        deferToRematch());
+
+    Gauge.builder("payment.matching.queue.depth", lanes, PaymentMatchingLanes::queuedTasks)
+         .description("매칭 대기 중인 PaymentLog 수")
+         .register(meterRegistry);
+    Gauge.builder("payment.matching.active", lanes, PaymentMatchingLanes::activeCount)
+         .register(meterRegistry);
+
+    this.lagTimer = Timer.builder("payment.matching.lag")
+                         .description("PaymentLog 저장 후 매칭 시작까지 대기 시간")
+                         .register(meterRegistry);
+    this.matchTimer = Timer.builder("payment.matching.duration").register(meterRegistry);
+    this.matchedCounter = meterRegistry.counter("payment.matching.result", "result", "matched");
+    this.unmatchedCounter = meterRegistry.counter("payment.matching.result", "result", "unmatched");
+    this.failedCounter = meterRegistry.counter("payment.matching.result", "result", "failed");
+    this.deferredCounter = meterRegistry.counter("payment.matching.deferred");
+  }
+
+  public void dispatch(PaymentLog paymentLog) {
+    Long paymentLogId = paymentLog.getId();
+    Object laneKey = groupRoutingIndex.findExact(paymentLog.getTargetAccount())
+                                      .<Object>map(groupId -> groupId)
+                                      .orElse(paymentLog.getTargetAccount());
+    long enqueuedAt = System.nanoTime();
+    lanes.execute(laneKey, () -> process(paymentLogId, enqueuedAt));
+  }
+
+  private void process(Long paymentLogId, long enqueuedAt) {
+    lagTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+    try {
+      boolean matched = matchTimer.record(() -> paymentLogService.matchPaymentLog(paymentLogId));
+      (matched ? matchedCounter : unmatchedCounter).increment();
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.error("비동기 입금 매칭 실패 - logId: {}", paymentLogId, e);
+    }
+  }
+
+  private RejectedExecutionHandler deferToRematch() {
+    return (task, pool) -> {
+      if (pool.isShutdown()) {
+        log.warn("매칭 워커 종료 중 - 작업 미처리 (PaymentLog는 미처리 상태로 보존)");
+        return;
+      }
+      try {
+        if (pool.getQueue().offer(task, properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      deferredCounter.increment();
+      log.warn("매칭 레인 큐 포화 (대기: {}건, 남은 자리: {}) - 재매칭 작업에 맡김 (PaymentLog는 미처리 상태로 보존)",
+          pool.getQueue().size(), pool.getQueue().remainingCapacity());
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    log.info("매칭 워커 종료 시작 - 대기 중인 작업: {}건", lanes.queuedTasks());
+    lanes.shutdown();
+
+    try {
+      if (!lanes.awaitTermination(properties.getShutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
+        List<Runnable> dropped = lanes.shutdownNow();
+        log.warn("매칭 워커 종료 시간 초과 - 미처리 작업: {}건", dropped.size());
+      }
+    } catch (InterruptedException e) {
+      lanes.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    log.info("매칭 워커 종료 완료");
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.capstonedesign20252.payment.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 키(groupId)별 단일 스레드 레인
+ *
+ * - 같은 키의 작업은 항상 같은 레인에서 순서대로 실행 → 그룹 안에서는 경합 없음
+ * - 다른 키는 레인 수만큼 병렬 실행
+ * - 레인마다 큐가 따로 있어서 한 그룹에 몰린 입금이 다른 레인을 막지 않음
+ */
+public class PaymentMatchingLanes {
+
+  private final ThreadPoolExecutor[] lanes;
+
+  public PaymentMatchingLanes(String threadNamePrefix, int laneCount, int queueCapacityPerLane,
+      RejectedExecutionHandler rejectedHandler) {
+    this.lanes = new ThreadPoolExecutor[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new ThreadPoolExecutor(
+          1, 1,
+          0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(queueCapacityPerLane),
+          new CustomizableThreadFactory(threadNamePrefix + i + "-"),
+          rejectedHandler);
+    }
+  }
+
+  public void execute(Object key, Runnable task) {
+    lanes[laneOf(key)].execute(task);
+  }
+
+  int laneOf(Object key) {
+    int h = key.hashCode();
+    return Math.floorMod(h ^ (h >>> 16), lanes.length);
+  }
+
+  public int queuedTasks() {
+    int queued = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      queued += lane.getQueue().size();
+    }
+    return queued;
+  }
+
+  public int activeCount() {
+    int active = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      active += lane.getActiveCount();
+    }
+    return active;
+  }
+
+  public void shutdown() {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+  }
+
+  /**
+   * 모든 레인이 timeout 안에 종료되면 true
+   */
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (ThreadPoolExecutor lane : lanes) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !lane.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public List<Runnable> shutdownNow() {
+    List<Runnable> dropped = new ArrayList<>();
+    for (ThreadPoolExecutor lane : lanes) {
+      dropped.addAll(lane.shutdownNow());
+    }
+    return dropped;
+  }
+}
@@ -1,16 +1,20 @@
 package com.example.capstonedesign20252.payment.service;
 
-import com.example.capstonedesign20252.dashboard.service.DashboardService;
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.repository.GroupRepository;
-import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.group.service.GroupRoutingIndex;
 import com.example.capstonedesign20252.payment.domain.PaymentLog;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PendingPaymentIndex.PendingPayment;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +24,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentMatchingService {
 
   private final GroupRepository groupRepository;
+  private final GroupRoutingIndex groupRoutingIndex;
   private final PaymentRepository paymentRepository;
-  private final DashboardService dashboardService;
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final PendingPaymentIndex pendingPaymentIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public boolean matchAndProcessPayment(PaymentLog paymentLog) {
@@ -40,35 +47,45 @@ public class PaymentMatchingService {
 
       Group group = groupOpt.get();
       log.info("그룹 매칭 성공: {} (ID: {})", group.getGroupName(), group.getId());
-      List<Payment> pendingPayments = paymentRepository.findPendingPaymentsByGroup(group.getId());
 
-      if (pendingPayments.isEmpty()) {
-        log.warn("그룹에 PENDING 상태의 결제 건 없음: {}", group.getGroupName());
+      Optional<PaymentCycle> cycleOpt = paymentCycleRepository.findByGroupIdAndStatus(group.getId(), "ACTIVE");
+
+      if (cycleOpt.isEmpty()) {
+        log.warn("그룹에 활성화된 수금 기간 없음: {}", group.getGroupName());
         return false;
       }
 
       BigDecimal amount = BigDecimal.valueOf(paymentLog.getAmount());
-      Optional<Payment> matchedPayment = pendingPayments.stream()
-                                                        .filter(p -> matchesPayment(p, paymentLog.getName(), amount))
-                                                        .findFirst();
+      List<PendingPayment> candidates = pendingPaymentIndex
+          .find(group.getId(), cycleOpt.get().getPeriod(), paymentLog.getName())
+          .stream()
+          .filter(p -> p.amount().compareTo(amount) == 0)
+          .toList();
+
+      Long paymentId = null;
+      for (PendingPayment candidate : candidates) {
+        int updated = paymentRepository.markAsPaidIfPending(candidate.paymentId(), paymentLog.getReceivedAt());
+        if (updated == 1) {
+          paymentId = candidate.paymentId();
+          eventPublisher.publishEvent(new PaymentPaidEvent(
+              group.getId(), paymentId, cycleOpt.get().getPeriod(), candidate.amount(), true));
+          break;
+        }
+        pendingPaymentIndex.remove(group.getId(), candidate.paymentId());
+      }
 
-      if (matchedPayment.isEmpty()) {
+      if (paymentId == null) {
         log.warn("매칭되는 결제 건 없음 - 입금자: {}, 금액: {}원",
             paymentLog.getName(), amount);
         return false;
       }
 
-      Payment payment = matchedPayment.get();
-      payment.markAsPaid(paymentLog.getReceivedAt());
-      paymentRepository.save(payment);
-
-      paymentLog.markAsProcessed(payment.getId());
-      dashboardService.evictDashboardCache(group.getId());
+      paymentLog.markAsProcessed(paymentId);
 
       log.info("입금 매칭 성공! - PaymentLog ID: {}, Payment ID: {}, 회원: {}",
           paymentLog.getId(),
-          payment.getId(),
-          payment.getGroupMember().getName());
+          paymentId,
+          paymentLog.getName());
 
       return true;
 
@@ -79,41 +96,7 @@ public class PaymentMatchingService {
   }
 
   private Optional<Group> findGroupByAccountName(String accountName) {
-    Optional<Group> exactMatch = groupRepository.findByAccountName(accountName);
-    if (exactMatch.isPresent()) {
-      return exactMatch;
-    }
-
-    List<Group> partialMatches = groupRepository.findByAccountNameOrContainsGroupName(accountName);
-    if (!partialMatches.isEmpty()) {
-      if (partialMatches.size() > 1) {
-        log.warn("통장 이름과 여러 그룹이 매칭됨: {} → 첫 번째 선택", accountName);
-      }
-      return Optional.of(partialMatches.get(0));
-    }
-
-    return Optional.empty();
-  }
-
-  private boolean matchesPayment(Payment payment, String depositorName, BigDecimal amount) {
-    if (payment.getAmount().compareTo(amount) != 0) {
-      return false;
-    }
-
-    String memberName = payment.getGroupMember().getName();
-
-    if (memberName.equals(depositorName)) {
-      return true;
-    }
-
-    String normalizedMemberName = normalizeName(memberName);
-    String normalizedDepositorName = normalizeName(depositorName);
-
-    return normalizedMemberName.equals(normalizedDepositorName);
-  }
-
-  private String normalizeName(String name) {
-    if (name == null) return "";
-    return name.replaceAll("[\\s\\-_.]", "").toLowerCase();
+    return groupRoutingIndex.resolve(accountName)
+                            .flatMap(groupRepository::findById);
   }
 }
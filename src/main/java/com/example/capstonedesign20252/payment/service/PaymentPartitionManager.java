@@ -0,0 +1,88 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.payment.config.PaymentPartitionProperties;
+import com.example.capstonedesign20252.payment.domain.PaymentPeriodConverter;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * payments 월 단위 RANGE 파티션 유지 (MariaDB 전용, 그 외 DB는 아무것도 하지 않음)
+ *
+ * - 처음 파티션 구성은 마이그레이션 V4 (PaymentPartitionMigration)
+ * - 보관 작업 주기마다 pmax를 나눠 이번 달 + monthsAhead 개월 파티션을 미리 만듦
+ */
+@Slf4j
+@Component
+public class PaymentPartitionManager {
+
+  public static final String MAX_PARTITION = "pmax";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PaymentPartitionProperties properties;
+
+  public PaymentPartitionManager(JdbcTemplate jdbcTemplate, PaymentPartitionProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+  }
+
+  /**
+   * MariaDB이고 파티션 관리가 켜져 있는지
+   */
+  public boolean isSupported() {
+    if (!properties.isEnabled()) {
+      return false;
+    }
+    String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+    return isMariaDb(product);
+  }
+
+  /**
+   * now + monthsAhead 까지 월 파티션이 없으면 pmax를 나눠 추가, 추가한 파티션 수 반환
+   */
+  public int ensurePartitions(YearMonth now) {
+    Long maxBound = jdbcTemplate.queryForObject(
+        "SELECT MAX(CAST(PARTITION_DESCRIPTION AS UNSIGNED)) FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payments' AND PARTITION_DESCRIPTION <> 'MAXVALUE'",
+        Long.class);
+    if (maxBound == null) {
+      return 0;
+    }
+
+    // 마지막 파티션 상한(미포함)이 곧 다음에 만들 달
+    List<String> partitions = new ArrayList<>();
+    YearMonth last = now.plusMonths(properties.getMonthsAhead());
+    for (YearMonth month = toYearMonth(maxBound.intValue()); !month.isAfter(last); month = month.plusMonths(1)) {
+      partitions.add(partitionClause(month));
+    }
+    if (partitions.isEmpty()) {
+      return 0;
+    }
+
+    partitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+    jdbcTemplate.execute("ALTER TABLE payments REORGANIZE PARTITION " + MAX_PARTITION +
+        " INTO (" + String.join(", ", partitions) + ")");
+    log.info("결제 월 파티션 추가 - {}개, ~{}", partitions.size() - 1, last);
+    return partitions.size() - 1;
+  }
+
+  // 첫 파티션은 그보다 이전 기간도 모두 담음 (RANGE의 LESS THAN)
+  public static String partitionClause(YearMonth month) {
+    String period = month.toString();
+    String next = month.plusMonths(1).toString();
+    return "PARTITION p" + PaymentPeriodConverter.toNumber(period) +
+        " VALUES LESS THAN (" + PaymentPeriodConverter.toNumber(next) + ")";
+  }
+
+  public static boolean isMariaDb(String databaseProductName) {
+    return databaseProductName != null && databaseProductName.toLowerCase().contains("mariadb");
+  }
+
+  public static YearMonth toYearMonth(int number) {
+    return YearMonth.parse(PaymentPeriodConverter.toPeriod(number));
+  }
+}
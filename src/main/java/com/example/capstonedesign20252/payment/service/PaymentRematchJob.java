@@ -0,0 +1,179 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.event.CycleStartedEvent;
+import com.example.capstonedesign20252.common.event.GroupDomainEvent;
+import com.example.capstonedesign20252.common.event.MemberAddedEvent;
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import com.example.capstonedesign20252.payment.config.PaymentRematchProperties;
+import com.example.capstonedesign20252.payment.dto.PaymentRematchChunkDto;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 미처리 PaymentLog 재매칭 작업
+ *
+ * - 수금 기간 시작 전(같은 달), 멤버 추가 전, 알 수 없는 통장으로 들어온 입금을 다시 매칭
+ *   (활성 기간보다 이전 입금은 매칭에서 제외, PaymentLogServiceImpl.match)
+ * - (is_processed, received_at) 인덱스 keyset 순회, 청크 단위 트랜잭션
+ * - 주기 실행: 전체 미처리 로그를 지난 실행이 멈춘 위치부터 이어서 검사
+ * - 트리거 실행: 해당 그룹 통장으로 들어온 로그만 활성 수금 기간 시작(같은 달 1일)부터 검사
+ *   ((target_account, is_processed, received_at) 인덱스, 다른 그룹의 미처리 로그가 쌓여도 바로 도달)
+ * - 실행은 전용 스레드 하나에서 순서대로, 같은 그룹의 대기 중인 트리거는 한 번으로 합침
+ */
+@Slf4j
+@Component
+public class PaymentRematchJob {
+
+  private final PaymentLogService paymentLogService;
+  private final GroupRepository groupRepository;
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final PaymentRematchProperties properties;
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(new CustomizableThreadFactory("payment-rematch-"));
+  private final Set<Long> pendingGroups = ConcurrentHashMap.newKeySet();
+
+  private final Counter scannedCounter;
+  private final Counter matchedCounter;
+  private final MeterRegistry meterRegistry;
+
+  // 주기 실행이 이어서 검사할 위치 (실행 스레드에서만 접근)
+  private Cursor cursor;
+
+  public PaymentRematchJob(PaymentLogService paymentLogService,
+      GroupRepository groupRepository,
+      PaymentCycleRepository paymentCycleRepository,
+      PaymentRematchProperties properties,
+      MeterRegistry meterRegistry) {
+    this.paymentLogService = paymentLogService;
+    this.groupRepository = groupRepository;
+    this.paymentCycleRepository = paymentCycleRepository;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.scannedCounter = Counter.builder("payment.rematch.scanned")
+                                 .description("재매칭 검사한 PaymentLog 수")
+                                 .register(meterRegistry);
+    this.matchedCounter = Counter.builder("payment.rematch.matched")
+                                 .description("재매칭으로 납부 처리된 PaymentLog 수")
+                                 .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${payment.rematch.interval-ms:600000}",
+             initialDelayString = "${payment.rematch.interval-ms:600000}")
+  public void scheduledRun() {
+    if (properties.isEnabled()) {
+      executor.execute(this::runScheduled);
+    }
+  }
+
+  /**
+   * 수금 기간 시작, 멤버 추가로 그룹에 새 PENDING 결제가 생길 수 있을 때 (커밋 후 실행)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+      classes = {CycleStartedEvent.class, MemberAddedEvent.class})
+  public void trigger(GroupDomainEvent event) {
+    Long groupId = event.groupId();
+    if (properties.isEnabled() && pendingGroups.add(groupId)) {
+      executor.execute(() -> {
+        pendingGroups.remove(groupId);
+        runForGroup(groupId);
+      });
+    }
+  }
+
+  private void runScheduled() {
+    LocalDateTime oldest = LocalDateTime.now().minusDays(properties.getMaxAgeDays());
+    Cursor start = cursor != null && cursor.receivedAt().isAfter(oldest) ? cursor : new Cursor(oldest, 0L);
+    cursor = scan("scheduled", null, start);
+  }
+
+  private void runForGroup(Long groupId) {
+    try {
+      Optional<String> account = groupRepository.findById(groupId).map(Group::getAccountName);
+      Optional<PaymentCycle> cycle = paymentCycleRepository.findByGroupIdAndStatus(groupId, "ACTIVE");
+      if (account.isEmpty() || cycle.isEmpty()) {
+        return;
+      }
+      scan("trigger", account.get(), new Cursor(windowStart(cycle.get()), 0L));
+    } catch (Exception e) {
+      log.error("PaymentLog 재매칭 실패 - groupId: {}", groupId, e);
+    }
+  }
+
+  // 매칭 대상 입금의 시작 시각 (기간 시작 이후 또는 기간과 같은 달, PaymentLogServiceImpl.isWithinCycle)
+  private static LocalDateTime windowStart(PaymentCycle cycle) {
+    LocalDateTime monthStart = YearMonth.parse(cycle.getPeriod()).atDay(1).atStartOfDay();
+    return cycle.getStartDate().isBefore(monthStart) ? cycle.getStartDate() : monthStart;
+  }
+
+  /**
+   * start 이후를 청크 단위로 최대 maxPerRun건 검사
+   * @return 다음에 이어서 검사할 위치 (끝까지 검사했으면 null, 실패하면 start)
+   */
+  private Cursor scan(String source, String targetAccount, Cursor start) {
+    Cursor position = start;
+    int scanned = 0;
+    int matched = 0;
+    long startedAt = System.nanoTime();
+
+    try {
+      while (scanned < properties.getMaxPerRun()) {
+        int limit = Math.min(properties.getChunkSize(), properties.getMaxPerRun() - scanned);
+        PaymentRematchChunkDto chunk = paymentLogService.rematchUnprocessed(
+            targetAccount, position.receivedAt(), position.id(), limit);
+
+        scanned += chunk.scanned();
+        matched += chunk.matched();
+        scannedCounter.increment(chunk.scanned());
+        matchedCounter.increment(chunk.matched());
+
+        if (chunk.scanned() < limit) {
+          return null;
+        }
+        position = new Cursor(chunk.lastReceivedAt(), chunk.lastId());
+      }
+      log.info("PaymentLog 재매칭 1회 한도 도달 - source: {}, 통장: {}, 다음 위치: {}",
+          source, targetAccount, position);
+      return position;
+    } catch (Exception e) {
+      log.error("PaymentLog 재매칭 실패 - source: {}, 통장: {}, 검사: {}건", source, targetAccount, scanned, e);
+      return start;
+    } finally {
+      long elapsed = System.nanoTime() - startedAt;
+      Timer.builder("payment.rematch.run")
+           .tag("source", source)
+           .register(meterRegistry)
+           .record(elapsed, TimeUnit.NANOSECONDS);
+      if (scanned > 0) {
+        log.info("PaymentLog 재매칭 완료 - source: {}, 검사: {}건, 매칭: {}건, {}ms",
+            source, scanned, matched, elapsed / 1_000_000);
+      }
+    }
+  }
+
+  private record Cursor(LocalDateTime receivedAt, Long id) {
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,133 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.cache.CacheValueLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.payment.dto.GroupPaymentStatsRowDto;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
+import com.example.capstonedesign20252.payment.dto.PaymentStatusCountsDto;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 그룹 + 기간 납부 통계 (회비 현황, 수금 기간, 챗봇 공용)
+ *
+ * - 결제 엔티티를 읽지 않고 집계 쿼리 한 번 + 멤버 수 조회
+ * - 결과는 groupStats 캐시에 보관, 그룹 도메인 이벤트 커밋 후 해당 그룹 항목 삭제
+ * - OVERDUE는 마감 스케줄러가 바꿔 둔 결제 상태 그대로 집계 (전환 커밋 후 이벤트로 캐시 삭제)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentStatisticsService implements CacheValueLoader {
+
+  private static final String CACHE_NAME = "groupStats";
+
+  private final PaymentRepository paymentRepository;
+  private final GroupMemberRepository groupMemberRepository;
+  private final CacheManager cacheManager;
+
+  @Cacheable(value = CACHE_NAME, key = "#groupId + ':' + #period", sync = true)
+  public PaymentStatsDto getStats(Long groupId, String period) {
+    return computeStats(groupId, period);
+  }
+
+  @Override
+  public String cacheName() {
+    return CACHE_NAME;
+  }
+
+  // refreshAfterWrite 백그라운드 갱신 (key = "groupId:period")
+  @Override
+  public Object load(Object key) {
+    String[] parts = key.toString().split(":", 2);
+    return computeStats(Long.valueOf(parts[0]), parts[1]);
+  }
+
+  private PaymentStatsDto computeStats(Long groupId, String period) {
+    int totalMembers = (int) groupMemberRepository.countByGroupId(groupId);
+    PaymentStatusCountsDto counts = paymentRepository.countStatusByGroupIdAndPeriod(groupId, period);
+
+    int paid = toInt(counts.paidCount());
+    int overdue = toInt(counts.overdueCount());
+    // 결제 레코드가 없는 멤버는 납부 대기
+    int pending = Math.max(totalMembers - paid - overdue, toInt(counts.pendingCount()));
+    long collected = counts.collectedAmount() == null ? 0L : counts.collectedAmount().longValue();
+
+    log.debug("납부 통계 계산 - groupId: {}, period: {}, 멤버: {}명, 납부: {}명, 대기: {}명, 연체: {}명",
+        groupId, period, totalMembers, paid, pending, overdue);
+    return new PaymentStatsDto(period, totalMembers, paid, pending, overdue, collected);
+  }
+
+  /**
+   * 여러 그룹의 기간 통계 (캐시에 있는 그룹은 그대로, 나머지는 한 번에 집계 후 캐시에 저장)
+   */
+  public Map<Long, PaymentStatsDto> getStats(Collection<Long> groupIds, String period) {
+    Map<Long, PaymentStatsDto> result = new HashMap<>();
+    Cache<Object, Object> nativeCache = nativeCache();
+    List<Long> missing = new ArrayList<>();
+    for (Long groupId : groupIds) {
+      Object cached = nativeCache == null ? null : nativeCache.getIfPresent(groupId + ":" + period);
+      if (cached instanceof PaymentStatsDto stats) {
+        result.put(groupId, stats);
+      } else {
+        missing.add(groupId);
+      }
+    }
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    for (GroupPaymentStatsRowDto row : groupMemberRepository.countPaymentStatsByGroupIds(missing, period)) {
+      int totalMembers = toInt(row.memberCount());
+      int paid = toInt(row.paidCount());
+      int overdue = toInt(row.overdueCount());
+      long collected = row.collectedAmount() == null ? 0L : row.collectedAmount().longValue();
+      result.put(row.groupId(), new PaymentStatsDto(period, totalMembers, paid,
+          Math.max(totalMembers - paid - overdue, 0), overdue, collected));
+    }
+    for (Long groupId : missing) {
+      PaymentStatsDto stats = result.computeIfAbsent(groupId, id -> new PaymentStatsDto(period, 0, 0, 0, 0, 0L));
+      if (nativeCache != null) {
+        nativeCache.put(groupId + ":" + period, stats);
+      }
+    }
+    log.debug("여러 그룹 납부 통계 - period: {}, 캐시: {}개, 집계: {}개",
+        period, groupIds.size() - missing.size(), missing.size());
+    return result;
+  }
+
+  /**
+   * 그룹의 모든 기간 통계 캐시 삭제
+   */
+  public void evict(Long groupId) {
+    Cache<Object, Object> nativeCache = nativeCache();
+    if (nativeCache != null) {
+      String prefix = groupId + ":";
+      nativeCache.asMap().keySet().removeIf(key -> key.toString().startsWith(prefix));
+    }
+  }
+
+  // LoadingCache의 get은 미스 시 로드까지 하므로 조회/삭제는 Caffeine 캐시를 직접 사용
+  @SuppressWarnings("unchecked")
+  private Cache<Object, Object> nativeCache() {
+    org.springframework.cache.Cache cache = cacheManager.getCache(CACHE_NAME);
+    return cache != null && cache.getNativeCache() instanceof Cache<?, ?> nativeCache
+        ? (Cache<Object, Object>) nativeCache : null;
+  }
+
+  private static int toInt(Long value) {
+    return value == null ? 0 : value.intValue();
+  }
+}
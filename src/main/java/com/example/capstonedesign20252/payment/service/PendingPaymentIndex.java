@@ -0,0 +1,159 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.event.CycleClosedEvent;
+import com.example.capstonedesign20252.common.event.CycleStartedEvent;
+import com.example.capstonedesign20252.common.event.GroupDomainEvent;
+import com.example.capstonedesign20252.common.event.MemberAddedEvent;
+import com.example.capstonedesign20252.common.event.MemberRemovedEvent;
+import com.example.capstonedesign20252.common.event.MemberUpdatedEvent;
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.payment.config.PaymentIngestionProperties;
+import com.example.capstonedesign20252.payment.dto.PendingPaymentDto;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활성 수금 기간별 입금자명 → PENDING 결제 인덱스 (메모리)
+ *
+ * - 그룹당 활성 기간 하나만 보관, 첫 조회 시 쿼리 한 번으로 적재
+ * - 이름은 공백, '-', '_', '.' 제거 + 소문자로 정규화, 결제는 오래된 순
+ * - 납부 처리는 조건부 UPDATE(PENDING인 경우만)로 하므로 이미 처리된 항목이 남아 있어도 안전
+ * - 수금 기간 시작/종료, 멤버 추가/삭제/수정 이벤트 커밋 후 해당 그룹 인덱스 무효화
+ * - 다른 노드 변경은 캐시 무효화 동기화(DashboardCacheInvalidator)로 무효화, 놓친 경우 대비 pendingIndexTtl 지나면 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentIndex {
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentIngestionProperties properties;
+
+  private final Map<Long, CycleEntry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * 입금자명과 일치하는 PENDING 결제 (오래된 순)
+   */
+  public List<PendingPayment> find(Long groupId, String period, String depositorName) {
+    long now = System.currentTimeMillis();
+    CycleEntry entry = entries.get(groupId);
+    if (entry == null || !entry.isValid(period, now)) {
+      entry = entries.compute(groupId, (id, current) ->
+          current != null && current.isValid(period, now) ? current : load(id, period, now));
+    }
+    return entry.find(normalizeName(depositorName));
+  }
+
+  /**
+   * 인덱스에서 결제 제거 (이미 PENDING이 아닌 것을 확인한 결제)
+   */
+  public void remove(Long groupId, Long paymentId) {
+    CycleEntry entry = entries.get(groupId);
+    if (entry != null) {
+      entry.remove(paymentId);
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPaymentPaid(PaymentPaidEvent event) {
+    remove(event.groupId(), event.paymentId());
+  }
+
+  /**
+   * 그룹 인덱스 무효화 (다음 조회 시 재적재)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+      classes = {CycleStartedEvent.class, CycleClosedEvent.class,
+          MemberAddedEvent.class, MemberRemovedEvent.class, MemberUpdatedEvent.class})
+  public void invalidate(GroupDomainEvent event) {
+    evict(event.groupId());
+  }
+
+  /**
+   * 그룹 인덱스 삭제 (다른 노드에서 변경된 그룹)
+   */
+  public void evict(Long groupId) {
+    entries.remove(groupId);
+  }
+
+  private CycleEntry load(Long groupId, String period, long now) {
+    List<PendingPaymentDto> pendings = paymentRepository.findPendingPaymentEntries(groupId, period);
+    CycleEntry entry = new CycleEntry(period, now + properties.getPendingIndexTtl().toMillis());
+    pendings.forEach(entry::add);
+    log.info("입금자명 인덱스 적재 - groupId: {}, period: {}, PENDING: {}건", groupId, period, pendings.size());
+    return entry;
+  }
+
+  /**
+   * 공백, '-', '_', '.' 제거 후 소문자 변환
+   */
+  public static String normalizeName(String name) {
+    if (name == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (!Character.isWhitespace(c) && c != '-' && c != '_' && c != '.') {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  public record PendingPayment(Long paymentId, BigDecimal amount) {
+  }
+
+  private static final class CycleEntry {
+
+    private final String period;
+    private final long expiresAt;
+    private final Map<String, Deque<PendingPayment>> byName = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+
+    private CycleEntry(String period, long expiresAt) {
+      this.period = period;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isValid(String period, long now) {
+      return this.period.equals(period) && now < expiresAt;
+    }
+
+    private synchronized void add(PendingPaymentDto dto) {
+      String name = normalizeName(dto.memberName());
+      byName.computeIfAbsent(name, k -> new ArrayDeque<>())
+            .add(new PendingPayment(dto.paymentId(), dto.amount()));
+      names.put(dto.paymentId(), name);
+    }
+
+    private synchronized List<PendingPayment> find(String name) {
+      Deque<PendingPayment> payments = byName.get(name);
+      return payments == null ? List.of() : List.copyOf(payments);
+    }
+
+    private synchronized void remove(Long paymentId) {
+      String name = names.remove(paymentId);
+      if (name == null) {
+        return;
+      }
+      Deque<PendingPayment> payments = byName.get(name);
+      payments.removeIf(p -> p.paymentId().equals(paymentId));
+      if (payments.isEmpty()) {
+        byName.remove(name);
+      }
+    }
+  }
+}
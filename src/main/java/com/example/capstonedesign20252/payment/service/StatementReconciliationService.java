@@ -0,0 +1,166 @@
+package com.example.capstonedesign20252.payment.service;
+
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.excel.dto.StatementRowDto;
+import com.example.capstonedesign20252.payment.dto.PendingPaymentDto;
+import com.example.capstonedesign20252.payment.dto.StatementReconcileResponseDto;
+import com.example.capstonedesign20252.payment.dto.StatementReconcileResponseDto.RowResult;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleErrorCode;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleException;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 통장 거래내역 일괄 대조
+ *
+ * - 활성 수금 기간의 PENDING 결제를 한 번에 조회해서 입금자명(정규화) 기준으로 배정
+ * - 같은 이름의 대기 결제가 여러 건(동명이인)인데 입금이 그보다 적으면 누가 냈는지 알 수 없으므로 ambiguous
+ * - 금액 기준은 입금 알림 매칭과 동일 (회비 이상이면 납부, 미만이면 부분 납부로 미매칭)
+ * - 납부 처리는 PENDING인 결제만 JDBC 배치 UPDATE 한 번으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementReconciliationService {
+
+  private static final String MARK_PAID_SQL =
+      "UPDATE payments SET status = 'PAID', paid_at = ? WHERE id = ? AND status = 'PENDING'";
+
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final PaymentRepository paymentRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public StatementReconcileResponseDto reconcile(Long groupId, List<StatementRowDto> rows, boolean dryRun) {
+    PaymentCycle cycle = paymentCycleRepository.findByGroupIdAndStatus(groupId, "ACTIVE")
+                                               .orElseThrow(() -> new PaymentCycleException(PaymentCycleErrorCode.NOT_FOUND_CYCLE));
+
+    log.info("거래내역 대조 시작 - groupId: {}, period: {}, 입금: {}건, dryRun: {}",
+        groupId, cycle.getPeriod(), rows.size(), dryRun);
+
+    // 1. 대기 중인 결제, 거래내역 모두 입금자명 기준으로 묶기
+    Map<String, List<PendingPaymentDto>> pendingByName = new HashMap<>();
+    Map<Long, BigDecimal> amounts = new HashMap<>();
+    for (PendingPaymentDto pending : paymentRepository.findPendingPaymentEntries(groupId, cycle.getPeriod())) {
+      amounts.put(pending.paymentId(), pending.amount());
+      pendingByName.computeIfAbsent(PendingPaymentIndex.normalizeName(pending.memberName()), k -> new ArrayList<>())
+                   .add(pending);
+    }
+
+    Map<String, List<StatementRowDto>> rowsByName = new LinkedHashMap<>();
+    for (StatementRowDto row : rows) {
+      rowsByName.computeIfAbsent(PendingPaymentIndex.normalizeName(row.depositorName()), k -> new ArrayList<>())
+                .add(row);
+    }
+
+    // 2. 이름별 배정
+    List<RowResult> matched = new ArrayList<>();
+    List<RowResult> ambiguous = new ArrayList<>();
+    List<RowResult> unmatched = new ArrayList<>();
+
+    for (Map.Entry<String, List<StatementRowDto>> entry : rowsByName.entrySet()) {
+      List<PendingPaymentDto> pendings = pendingByName.getOrDefault(entry.getKey(), List.of());
+      assign(entry.getValue(), pendings, matched, ambiguous, unmatched);
+    }
+
+    // 3. 납부 처리 (PENDING인 경우만)
+    if (!dryRun && !matched.isEmpty()) {
+      matched = apply(matched, unmatched);
+      for (RowResult row : matched) {
+        eventPublisher.publishEvent(new PaymentPaidEvent(
+            groupId, row.paymentId(), cycle.getPeriod(), amounts.get(row.paymentId()), true));
+      }
+    }
+
+    matched.sort(Comparator.comparingInt(RowResult::rowNumber));
+    ambiguous.sort(Comparator.comparingInt(RowResult::rowNumber));
+    unmatched.sort(Comparator.comparingInt(RowResult::rowNumber));
+
+    log.info("거래내역 대조 완료 - groupId: {}, 매칭: {}건, 확인 필요: {}건, 미매칭: {}건",
+        groupId, matched.size(), ambiguous.size(), unmatched.size());
+    return StatementReconcileResponseDto.of(cycle.getPeriod(), !dryRun, matched, ambiguous, unmatched);
+  }
+
+  private void assign(List<StatementRowDto> rows, List<PendingPaymentDto> pendings,
+      List<RowResult> matched, List<RowResult> ambiguous, List<RowResult> unmatched) {
+    if (pendings.isEmpty()) {
+      rows.forEach(row -> unmatched.add(result(row, null, "대기 중인 납부 없음")));
+      return;
+    }
+
+    long requiredAmount = pendings.get(0).amount().longValue();
+    List<StatementRowDto> fullPayments = new ArrayList<>();
+    for (StatementRowDto row : rows) {
+      if (row.amount() >= requiredAmount) {
+        fullPayments.add(row);
+      } else {
+        unmatched.add(result(row, null, "부분 납부 (회비: " + requiredAmount + "원)"));
+      }
+    }
+
+    // 동명이인 중 일부만 입금 → 누구 입금인지 판단 불가
+    if (pendings.size() > 1 && fullPayments.size() < pendings.size()) {
+      fullPayments.forEach(row -> ambiguous.add(result(row, null, "동명이인 " + pendings.size() + "명 중 확인 필요")));
+      return;
+    }
+
+    // 입금 시각 순으로 오래된 결제부터 배정
+    fullPayments.sort(Comparator.comparing(StatementRowDto::transactedAt,
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+                                .thenComparingInt(StatementRowDto::rowNumber));
+    for (int i = 0; i < fullPayments.size(); i++) {
+      StatementRowDto row = fullPayments.get(i);
+      if (i < pendings.size()) {
+        matched.add(result(row, pendings.get(i).paymentId(), null));
+      } else {
+        unmatched.add(result(row, null, "추가 입금 (이미 매칭됨)"));
+      }
+    }
+  }
+
+  private List<RowResult> apply(List<RowResult> matched, List<RowResult> unmatched) {
+    LocalDateTime now = LocalDateTime.now();
+    int[][] counts = jdbcTemplate.batchUpdate(MARK_PAID_SQL, matched, 500, (ps, row) -> {
+      ps.setTimestamp(1, Timestamp.valueOf(row.transactedAt() != null ? row.transactedAt() : now));
+      ps.setLong(2, row.paymentId());
+    });
+
+    // 대조 중에 다른 경로(입금 알림, 수동 확인)로 먼저 납부된 결제는 미매칭으로
+    List<RowResult> applied = new ArrayList<>();
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        RowResult row = matched.get(index++);
+        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+          applied.add(row);
+        } else {
+          unmatched.add(new RowResult(row.rowNumber(), row.transactedAt(), row.depositorName(),
+              row.amount(), null, "이미 납부 처리됨"));
+        }
+      }
+    }
+    return applied;
+  }
+
+  private static RowResult result(StatementRowDto row, Long paymentId, String reason) {
+    return new RowResult(row.rowNumber(), row.transactedAt(), row.depositorName(), row.amount(), paymentId, reason);
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.capstonedesign20252.paymentCycle.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수금 기간 마감 스케줄러 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment-cycle.deadline")
+public class CycleDeadlineProperties {
+
+  // false면 마감일이 지나도 자동 종료하지 않음 (수동 종료만)
+  private boolean enabled = true;
+
+  // 마감 큐 확인 주기
+  private long tickIntervalMs = 1000;
+
+  // 다른 노드에서 시작된 수금 기간 반영을 위한 DB 재적재 주기
+  private long reloadIntervalMs = 300000;
+}
@@ -0,0 +1,23 @@
+package com.example.capstonedesign20252.paymentCycle.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료된 수금 기간 스냅샷 응답 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment-cycle.snapshot")
+public class CycleSnapshotProperties {
+
+  /**
+   * 종료된 기간 회비 현황 응답의 Cache-Control max-age
+   * (정정이 들어오면 etag가 바뀌므로 그 뒤에는 If-None-Match 재검증으로 반영)
+   */
+  private Duration maxAge = Duration.ofDays(1);
+}
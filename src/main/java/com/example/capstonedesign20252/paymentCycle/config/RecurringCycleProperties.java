@@ -0,0 +1,29 @@
+package com.example.capstonedesign20252.paymentCycle.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매월 자동 수금 시작 작업 설정 (실행 주기는 payment-cycle.recurring.cron)
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment-cycle.recurring")
+public class RecurringCycleProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * 대상 그룹을 나눠 동시에 처리할 샤드(스레드) 수
+   */
+  private int parallelism = 4;
+
+  /**
+   * 작업 점유 유지 시간 (실행이 이보다 길어지면 다른 인스턴스가 가져갈 수 있음)
+   */
+  private Duration leaseDuration = Duration.ofMinutes(30);
+}
@@ -2,6 +2,7 @@ package com.example.capstonedesign20252.paymentCycle.controller;
 
 
 import com.example.capstonedesign20252.paymentCycle.dto.ActiveCycleResponseDto;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
 import com.example.capstonedesign20252.paymentCycle.dto.PaymentCycleResponseDto;
 import com.example.capstonedesign20252.paymentCycle.dto.StartPaymentCycleRequestDto;
 import com.example.capstonedesign20252.paymentCycle.service.PaymentCycleService;
@@ -42,6 +43,15 @@ public class PaymentCycleController {
     return ResponseEntity.ok(paymentCycleService.closePaymentCycle(groupId, cycleId));
   }
 
+  @PostMapping("/{cycleId}/snapshot")
+  public ResponseEntity<CycleSnapshotSummaryDto> rewriteSnapshot(
+      @PathVariable Long groupId,
+      @PathVariable Long cycleId
+  ){
+    log.info("수금 기간 스냅샷 재기록 요청 - groupId: {}, cycleId: {}", groupId, cycleId);
+    return ResponseEntity.ok(paymentCycleService.rewriteSnapshot(groupId, cycleId));
+  }
+
   @GetMapping("/active")
   public ResponseEntity<ActiveCycleResponseDto> getActiveCycle(
       @PathVariable Long groupId
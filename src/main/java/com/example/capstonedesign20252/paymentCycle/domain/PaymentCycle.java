@@ -23,7 +23,8 @@ import org.hibernate.annotations.CreationTimestamp;
 @Entity
 @Table(name = "payment_cycles", indexes = {
     @Index(name = "idx_group_status", columnList = "group_id, status"),
-    @Index(name = "idx_group_period", columnList = "group_id, period")
+    @Index(name = "idx_group_period", columnList = "group_id, period"),
+    @Index(name = "idx_cycle_status_due", columnList = "status, due_date")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -12,7 +12,9 @@ public enum PaymentCycleErrorCode implements ErrorCode {
   ALREADY_ACTIVE_CYCLE(HttpStatus.CONFLICT, "CYCLE-001", "이미 진행 중인 수금기간이 존재합니다."),
   NOT_FOUND_CYCLE(HttpStatus.NOT_FOUND, "CYCLE-002", "수금기간을 찾을 수 없습니다."),
   NOT_CYCLE_PERIOD(HttpStatus.BAD_REQUEST, "CYCLE-003", "해당 그룹의 수금 기간이 아닙니다."),
-  ALREADY_FINISH_CYCLE(HttpStatus.BAD_REQUEST, "CYCLE-004", "이미 종료된 수금 기간입니다.");
+  ALREADY_FINISH_CYCLE(HttpStatus.BAD_REQUEST, "CYCLE-004", "이미 종료된 수금 기간입니다."),
+  NOT_CLOSED_CYCLE(HttpStatus.BAD_REQUEST, "CYCLE-005", "종료된 수금 기간만 스냅샷을 만들 수 있습니다."),
+  INVALID_PERIOD(HttpStatus.BAD_REQUEST, "CYCLE-006", "수금 기간은 yyyy-MM 형식이어야 합니다.");
 
 
   private final HttpStatus status;
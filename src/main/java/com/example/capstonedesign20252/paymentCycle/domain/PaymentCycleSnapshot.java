@@ -0,0 +1,97 @@
+package com.example.capstonedesign20252.paymentCycle.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 수금 기간의 고정 집계 + 멤버별 납부 상태 (gzip JSON)
+ *
+ * - 수금 기간 종료 시 한 번 기록, 종료 후 납부 정정이 있을 때만 다시 기록
+ * - etag는 압축된 멤버 목록 + 집계의 SHA-256 (내용이 같으면 같은 값)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payment_cycle_snapshots",
+    indexes = @Index(name = "idx_cycle_snapshot_group_period", columnList = "group_id, period"))
+public class PaymentCycleSnapshot {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "cycle_id", nullable = false, unique = true)
+  private Long cycleId;
+
+  @Column(name = "group_id", nullable = false)
+  private Long groupId;
+
+  @Column(name = "period", length = 7, nullable = false)
+  private String period;
+
+  @Column(name = "group_name", nullable = false)
+  private String groupName;
+
+  @Column(name = "monthly_fee", nullable = false)
+  private Integer monthlyFee;
+
+  @Column(name = "total_members", nullable = false)
+  private Integer totalMembers;
+
+  @Column(name = "paid_members", nullable = false)
+  private Integer paidMembers;
+
+  @Column(name = "pending_members", nullable = false)
+  private Integer pendingMembers;
+
+  @Column(name = "overdue_members", nullable = false)
+  private Integer overdueMembers;
+
+  @Column(name = "total_collected", nullable = false)
+  private Long totalCollected;
+
+  @Lob
+  @Column(name = "members_gz", nullable = false, length = 16_777_215)
+  private byte[] membersGz;
+
+  @Column(name = "etag", nullable = false, length = 64)
+  private String etag;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Builder
+  public PaymentCycleSnapshot(Long cycleId, Long groupId, String period, String groupName, Integer monthlyFee) {
+    this.cycleId = cycleId;
+    this.groupId = groupId;
+    this.period = period;
+    this.groupName = groupName;
+    this.monthlyFee = monthlyFee;
+  }
+
+  /**
+   * 집계와 멤버 목록 기록 (정정 시 같은 행을 덮어씀)
+   */
+  public void record(int totalMembers, int paidMembers, int pendingMembers, int overdueMembers,
+      long totalCollected, byte[] membersGz, String etag) {
+    this.totalMembers = totalMembers;
+    this.paidMembers = paidMembers;
+    this.pendingMembers = pendingMembers;
+    this.overdueMembers = overdueMembers;
+    this.totalCollected = totalCollected;
+    this.membersGz = membersGz;
+    this.etag = etag;
+    this.createdAt = LocalDateTime.now();
+  }
+}
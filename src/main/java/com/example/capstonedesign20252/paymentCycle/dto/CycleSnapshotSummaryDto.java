@@ -0,0 +1,30 @@
+package com.example.capstonedesign20252.paymentCycle.dto;
+
+/**
+ * 종료된 수금 기간의 고정 집계 (멤버 목록 제외)
+ */
+public record CycleSnapshotSummaryDto(
+    Long snapshotId,
+    Long cycleId,
+    String period,
+    String groupName,
+    Integer monthlyFee,
+    Integer totalMembers,
+    Integer paidMembers,
+    Integer pendingMembers,
+    Integer overdueMembers,
+    Long totalCollected,
+    String etag
+) {
+  public int unpaidMembers() {
+    return pendingMembers + overdueMembers;
+  }
+
+  public long targetAmount() {
+    return (long) monthlyFee * totalMembers;
+  }
+
+  public int paymentRate() {
+    return totalMembers == 0 ? 0 : paidMembers * 100 / totalMembers;
+  }
+}
@@ -14,9 +14,34 @@ public record PaymentCycleResponseDto(
     String accountName,
     Integer totalMembers,
     Integer monthlyFee,
-    Long targetAmount
+    Long targetAmount,
+    // 수금 시작 시에만: 생성한 결제 건수, 생성 소요 시간
+    Integer createdPayments,
+    Long creationMillis,
+    // 수금 종료 시에만: 연체 처리 건수
+    Integer overduePayments,
+    // 히스토리 조회 시 종료된 기간만: 고정 집계
+    CycleSnapshotSummaryDto snapshot
 ) {
   public static PaymentCycleResponseDto from(PaymentCycle cycle) {
+    return of(cycle, null, null, null);
+  }
+
+  public static PaymentCycleResponseDto started(PaymentCycle cycle, int createdPayments, long creationMillis) {
+    return of(cycle, createdPayments, creationMillis, null);
+  }
+
+  public static PaymentCycleResponseDto closed(PaymentCycle cycle, int overduePayments) {
+    return of(cycle, null, null, overduePayments);
+  }
+
+  public PaymentCycleResponseDto withSnapshot(CycleSnapshotSummaryDto snapshot) {
+    return new PaymentCycleResponseDto(cycleId, period, status, startDate, dueDate, closedAt, accountName,
+        totalMembers, monthlyFee, targetAmount, createdPayments, creationMillis, overduePayments, snapshot);
+  }
+
+  private static PaymentCycleResponseDto of(PaymentCycle cycle, Integer createdPayments, Long creationMillis,
+      Integer overduePayments) {
     return new PaymentCycleResponseDto(
         cycle.getId(),
         cycle.getPeriod(),
@@ -27,7 +52,11 @@ public record PaymentCycleResponseDto(
         cycle.getGroup().getAccountName(),
         cycle.getTotalMembers(),
         cycle.getMonthlyFee(),
-        (long) cycle.getTotalMembers() * cycle.getMonthlyFee()
+        (long) cycle.getTotalMembers() * cycle.getMonthlyFee(),
+        createdPayments,
+        creationMillis,
+        overduePayments,
+        null
     );
   }
 }
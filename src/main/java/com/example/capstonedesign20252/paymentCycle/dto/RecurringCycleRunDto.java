@@ -0,0 +1,14 @@
+package com.example.capstonedesign20252.paymentCycle.dto;
+
+public record RecurringCycleRunDto(
+    String period,
+    int started,
+    int skipped,
+    int failed,
+    long createdPayments,
+    long elapsedMillis
+) {
+  public int processed() {
+    return started + skipped + failed;
+  }
+}
@@ -1,9 +1,11 @@
 package com.example.capstonedesign20252.paymentCycle.repository;
 
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,10 +19,27 @@ public interface PaymentCycleRepository extends JpaRepository<PaymentCycle, Long
   Optional<PaymentCycle> findByGroupIdAndPeriod(@Param("groupId") Long groupId,
                                                  @Param("period") String period);
 
+  // 같은 기간을 다시 연 경우 여러 건 (최신 먼저)
+  @Query("SELECT pc FROM PaymentCycle pc WHERE pc.group.id = :groupId AND pc.period = :period ORDER BY pc.id DESC")
+  List<PaymentCycle> findAllByGroupIdAndPeriod(@Param("groupId") Long groupId,
+                                               @Param("period") String period);
+
   boolean existsByGroupIdAndStatus(Long groupId, String status);
 
-  List<PaymentCycle> findByGroupIdOrderByCreatedAtDesc(Long groupId);
+  @Query("SELECT pc FROM PaymentCycle pc WHERE pc.group.id = :groupId ORDER BY pc.createdAt DESC")
+  List<PaymentCycle> findByGroupIdOrderByCreatedAtDesc(@Param("groupId") Long groupId);
 
   @Query("SELECT pc FROM PaymentCycle pc WHERE pc.group.id = :groupId ORDER BY pc.createdAt DESC")
   List<PaymentCycle> findRecentByGroupId(@Param("groupId") Long groupId);
+
+  // 마감 스케줄러용 (마감일이 있는 진행 중 수금 기간)
+  @Query("SELECT pc FROM PaymentCycle pc WHERE pc.status = 'ACTIVE' AND pc.dueDate IS NOT NULL")
+  List<PaymentCycle> findActiveWithDueDate();
+
+  // 아직 ACTIVE일 때만 종료 (여러 노드가 동시에 마감해도 한 번만 성공)
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE PaymentCycle pc SET pc.status = 'CLOSED', pc.closedAt = :closedAt " +
+      "WHERE pc.id = :cycleId AND pc.status = 'ACTIVE'")
+  int closeIfActive(@Param("cycleId") Long cycleId,
+      @Param("closedAt") LocalDateTime closedAt);
 }
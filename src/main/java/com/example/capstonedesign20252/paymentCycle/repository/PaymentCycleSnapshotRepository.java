@@ -0,0 +1,34 @@
+package com.example.capstonedesign20252.paymentCycle.repository;
+
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleSnapshot;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentCycleSnapshotRepository extends JpaRepository<PaymentCycleSnapshot, Long> {
+
+  String SUMMARY_SELECT = "SELECT new com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto(" +
+      "s.id, s.cycleId, s.period, s.groupName, s.monthlyFee, s.totalMembers, s.paidMembers, " +
+      "s.pendingMembers, s.overdueMembers, s.totalCollected, s.etag) FROM PaymentCycleSnapshot s ";
+
+  Optional<PaymentCycleSnapshot> findByCycleId(Long cycleId);
+
+  // 같은 기간을 다시 열었다 닫은 경우 최신 스냅샷 우선, 다시 진행 중이면 제외 (멤버 목록은 읽지 않음)
+  @Query(SUMMARY_SELECT + "WHERE s.groupId = :groupId AND s.period = :period " +
+      "AND NOT EXISTS (SELECT 1 FROM PaymentCycle c WHERE c.group.id = s.groupId AND c.period = s.period " +
+      "AND c.status = 'ACTIVE') ORDER BY s.id DESC")
+  List<CycleSnapshotSummaryDto> findSummaries(@Param("groupId") Long groupId,
+      @Param("period") String period,
+      Pageable pageable);
+
+  @Query(SUMMARY_SELECT + "WHERE s.cycleId IN :cycleIds")
+  List<CycleSnapshotSummaryDto> findSummariesByCycleIds(@Param("cycleIds") Collection<Long> cycleIds);
+
+  @Query("SELECT s.membersGz FROM PaymentCycleSnapshot s WHERE s.id = :id")
+  byte[] findMembersGzById(@Param("id") Long id);
+}
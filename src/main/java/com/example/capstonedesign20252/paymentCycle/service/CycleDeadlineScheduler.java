@@ -0,0 +1,112 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import com.example.capstonedesign20252.common.event.CycleClosedEvent;
+import com.example.capstonedesign20252.common.event.CycleStartedEvent;
+import com.example.capstonedesign20252.paymentCycle.config.CycleDeadlineProperties;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 수금 기간 마감 스케줄러
+ *
+ * - 진행 중 수금 기간의 마감일을 우선순위 큐(마감일 오름차순)로 유지
+ * - tick마다 마감일이 지난 항목을 꺼내 종료 + 미납 결제 일괄 OVERDUE 처리
+ * - 시작 시, 그리고 주기적으로 payment_cycles에서 다시 적재 (다른 노드에서 시작된 기간 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CycleDeadlineScheduler {
+
+  private static final Comparator<Deadline> BY_DUE_DATE =
+      Comparator.comparing(Deadline::dueDate).thenComparing(Deadline::cycleId);
+
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final PaymentCycleService paymentCycleService;
+  private final CycleDeadlineProperties properties;
+
+  private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(BY_DUE_DATE);
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    reload();
+  }
+
+  @Scheduled(fixedDelayString = "${payment-cycle.deadline.reload-interval-ms:300000}",
+      initialDelayString = "${payment-cycle.deadline.reload-interval-ms:300000}")
+  public void reload() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    List<Deadline> active = paymentCycleRepository.findActiveWithDueDate().stream()
+                                                  .map(Deadline::of)
+                                                  .toList();
+    synchronized (deadlines) {
+      deadlines.clear();
+      deadlines.addAll(active);
+    }
+    log.debug("수금 기간 마감 큐 적재 - {}건", active.size());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCycleStarted(CycleStartedEvent event) {
+    paymentCycleRepository.findById(event.cycleId())
+                          .filter(cycle -> cycle.getDueDate() != null)
+                          .ifPresent(cycle -> {
+                            synchronized (deadlines) {
+                              deadlines.add(Deadline.of(cycle));
+                            }
+                          });
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCycleClosed(CycleClosedEvent event) {
+    synchronized (deadlines) {
+      deadlines.removeIf(deadline -> deadline.cycleId().equals(event.cycleId()));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${payment-cycle.deadline.tick-interval-ms:1000}")
+  public void tick() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    for (Deadline deadline : pollExpired(LocalDateTime.now())) {
+      try {
+        paymentCycleService.closeExpiredCycle(deadline.cycleId());
+      } catch (Exception e) {
+        log.error("수금 기간 자동 종료 실패 - cycleId: {}", deadline.cycleId(), e);
+      }
+    }
+  }
+
+  private List<Deadline> pollExpired(LocalDateTime now) {
+    List<Deadline> expired = new ArrayList<>();
+    synchronized (deadlines) {
+      while (!deadlines.isEmpty() && !deadlines.peek().dueDate().isAfter(now)) {
+        expired.add(deadlines.poll());
+      }
+    }
+    return expired;
+  }
+
+  private record Deadline(Long cycleId, LocalDateTime dueDate) {
+
+    static Deadline of(PaymentCycle cycle) {
+      return new Deadline(cycle.getId(), cycle.getDueDate());
+    }
+  }
+}
@@ -1,28 +1,35 @@
 package com.example.capstonedesign20252.paymentCycle.service;
 
 
+import com.example.capstonedesign20252.common.event.CycleClosedEvent;
+import com.example.capstonedesign20252.common.event.CycleStartedEvent;
+import com.example.capstonedesign20252.common.event.PaymentOverdueEvent;
 import com.example.capstonedesign20252.group.domain.Group;
 import com.example.capstonedesign20252.group.repository.GroupRepository;
 import com.example.capstonedesign20252.group.service.GroupService;
-import com.example.capstonedesign20252.groupMember.domain.GroupMember;
 import com.example.capstonedesign20252.groupMember.domain.GroupMemberErrorCode;
 import com.example.capstonedesign20252.groupMember.domain.GroupMemberException;
 import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
-import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.domain.PaymentPeriodConverter;
+import com.example.capstonedesign20252.payment.dto.PaymentStatsDto;
 import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleErrorCode;
 import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleException;
 import com.example.capstonedesign20252.paymentCycle.dto.ActiveCycleResponseDto;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
 import com.example.capstonedesign20252.paymentCycle.dto.PaymentCycleResponseDto;
 import com.example.capstonedesign20252.paymentCycle.dto.StartPaymentCycleRequestDto;
 import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,12 +43,18 @@ public class PaymentCycleService {
   private final GroupMemberRepository groupMemberRepository;
   private final PaymentRepository paymentRepository;
   private final GroupService groupService;
+  private final PaymentStatisticsService paymentStatisticsService;
+  private final PaymentCycleSnapshotService paymentCycleSnapshotService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public PaymentCycleResponseDto startPaymentCycle(Long groupId, StartPaymentCycleRequestDto request){
     log.info("회비 수금 시작 - groupId: {}, period: {}", groupId, request.period());
 
     Group group = groupService.findByGroupId(groupId);
+    if (!PaymentPeriodConverter.isValid(request.period())) {
+      throw new PaymentCycleException(PaymentCycleErrorCode.INVALID_PERIOD);
+    }
     Optional<PaymentCycle> existingActive = paymentCycleRepository
         .findByGroupIdAndStatus(groupId, "ACTIVE");
 
@@ -49,9 +62,9 @@ public class PaymentCycleService {
       throw new PaymentCycleException(PaymentCycleErrorCode.ALREADY_ACTIVE_CYCLE);
     }
 
-    List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
+    int memberCount = (int) groupMemberRepository.countByGroupId(groupId);
 
-    if (members.isEmpty()){
+    if (memberCount == 0){
       throw new GroupMemberException(GroupMemberErrorCode.MEMBER_NOT_FOUND);
     }
 
@@ -60,24 +73,22 @@ public class PaymentCycleService {
                                      .period(request.period())
                                      .startDate(LocalDateTime.now())
                                      .dueDate(request.dueDate())
-                                     .totalMembers(members.size())
+                                     .totalMembers(memberCount)
                                      .monthlyFee(group.getFee())
                                      .build();
     paymentCycleRepository.save(cycle);
 
-    for (GroupMember member : members) {
-      Payment payment = Payment.builder()
-                               .group(group)
-                               .groupMember(member)
-                               .amount(new BigDecimal(group.getFee()))
-                               .dueDate(request.dueDate())
-                               .paymentPeriod(request.period())
-                               .build();
-      paymentRepository.save(payment);
-    }
+    // 멤버 수와 관계없이 INSERT ... SELECT 한 번으로 결제 건 생성
+    long startedAt = System.currentTimeMillis();
+    int created = paymentRepository.insertPendingForGroup(groupId, request.period(),
+        new BigDecimal(group.getFee()), request.dueDate(), LocalDateTime.now());
+    long elapsedMillis = System.currentTimeMillis() - startedAt;
 
-    log.info("회비 수금 시작 완료 - cycleId: {}, 멤버 수: {}", cycle.getId(), members.size());
-    return PaymentCycleResponseDto.from(cycle);
+    eventPublisher.publishEvent(new CycleStartedEvent(groupId, cycle.getId(), cycle.getPeriod()));
+
+    log.info("회비 수금 시작 완료 - cycleId: {}, 멤버 수: {}, 결제 생성: {}건, {}ms",
+        cycle.getId(), memberCount, created, elapsedMillis);
+    return PaymentCycleResponseDto.started(cycle, created, elapsedMillis);
   }
 
   @Transactional
@@ -91,21 +102,50 @@ public class PaymentCycleService {
       throw new PaymentCycleException(PaymentCycleErrorCode.NOT_CYCLE_PERIOD);
     }
 
-    if(!cycle.isActive()){
+    String period = cycle.getPeriod();
+    // 마감 스케줄러와 겹쳐도 한 번만 처리
+    if(!cycle.isActive() || paymentCycleRepository.closeIfActive(cycleId, LocalDateTime.now()) == 0){
       throw new PaymentCycleException(PaymentCycleErrorCode.ALREADY_FINISH_CYCLE);
     }
 
-    cycle.close();
+    // 결제 엔티티를 읽지 않고 UPDATE 한 번으로 연체 처리 (대시보드/통계 캐시는 커밋 후 이벤트로 갱신)
+    int overdue = paymentRepository.markOverdueByGroupIdAndPeriod(groupId, period);
+
+    eventPublisher.publishEvent(new PaymentOverdueEvent(groupId, period, overdue));
+    eventPublisher.publishEvent(new CycleClosedEvent(groupId, cycleId, period));
 
-    List<Payment> pendingPayments = paymentRepository
-        .findByGroupIdAndPaymentPeriodAndStatus(groupId, cycle.getPeriod(), "PENDING");
+    log.info("회비 수금 종료 완료 - cycleId: {}, 연체 처리: {}명", cycleId, overdue);
+    // closeIfActive가 영속성 컨텍스트를 비우므로 종료된 상태로 다시 조회
+    PaymentCycle closed = paymentCycleRepository.findById(cycleId)
+                                                .orElseThrow(() -> new PaymentCycleException(PaymentCycleErrorCode.NOT_FOUND_CYCLE));
+    return PaymentCycleResponseDto.closed(closed, overdue);
+  }
+
+  /**
+   * 마감일이 지난 수금 기간 자동 종료 (마감 스케줄러용), 이미 종료됐거나 마감 전이면 false
+   */
+  @Transactional
+  public boolean closeExpiredCycle(Long cycleId) {
+    PaymentCycle cycle = paymentCycleRepository.findById(cycleId).orElse(null);
+    LocalDateTime now = LocalDateTime.now();
+    if (cycle == null || !cycle.isActive() || cycle.getDueDate() == null || cycle.getDueDate().isAfter(now)) {
+      return false;
+    }
 
-    for (Payment payment : pendingPayments){
-      payment.markAsOverdue();
+    Long groupId = cycle.getGroup().getId();
+    String period = cycle.getPeriod();
+    // 수동 종료나 다른 노드와 겹쳐도 한 번만 처리
+    if (paymentCycleRepository.closeIfActive(cycleId, now) == 0) {
+      return false;
     }
+    int overdue = paymentRepository.markOverdueByGroupIdAndPeriod(groupId, period);
 
-    log.info("회비 수금 종료 완료 - cycleId: {}, 연체 처리: {}명", cycleId, pendingPayments.size());
-    return PaymentCycleResponseDto.from(cycle);
+    eventPublisher.publishEvent(new PaymentOverdueEvent(groupId, period, overdue));
+    eventPublisher.publishEvent(new CycleClosedEvent(groupId, cycleId, period));
+
+    log.info("수금 기간 마감 자동 종료 - groupId: {}, cycleId: {}, period: {}, 연체 처리: {}명",
+        groupId, cycleId, period, overdue);
+    return true;
   }
 
   public ActiveCycleResponseDto getActiveCycle(Long groupId){
@@ -119,18 +159,11 @@ public class PaymentCycleService {
     }
 
     PaymentCycle cycle = cycleOpt.get();
-    List<Payment> payments = paymentRepository
-        .findByGroupIdAndPaymentPeriod(groupId, cycle.getPeriod());
+    PaymentStatsDto stats = paymentStatisticsService.getStats(groupId, cycle.getPeriod());
 
-    int paidMembers = (int) payments.stream()
-                                    .filter(p -> "PAID".equals(p.getStatus()))
-                                    .count();
+    int paidMembers = stats.paidCount();
     int unpaidMembers = cycle.getTotalMembers() - paidMembers;
-
-    long totalCollected = payments.stream()
-                                  .filter(p -> "PAID".equals(p.getStatus()))
-                                  .mapToLong(p -> p.getAmount().longValue())
-                                  .sum();
+    long totalCollected = stats.collectedAmount();
 
     int paymentRate = cycle.getTotalMembers() == 0 ? 0
         : (paidMembers * 100) / cycle.getTotalMembers();
@@ -153,9 +186,25 @@ public class PaymentCycleService {
   }
 
   public List<PaymentCycleResponseDto> getCycleHistory(Long groupId) {
-    return paymentCycleRepository.findByGroupIdOrderByCreatedAtDesc(groupId)
-                                 .stream()
-                                 .map(PaymentCycleResponseDto::from)
-                                 .toList();
+    List<PaymentCycle> cycles = paymentCycleRepository.findByGroupIdOrderByCreatedAtDesc(groupId);
+
+    // 종료된 기간의 고정 집계를 한 번에 붙임
+    Map<Long, CycleSnapshotSummaryDto> snapshots = paymentCycleSnapshotService.findSummaries(
+        cycles.stream().filter(cycle -> !cycle.isActive()).map(PaymentCycle::getId).toList());
+    return cycles.stream()
+                 .map(cycle -> PaymentCycleResponseDto.from(cycle).withSnapshot(snapshots.get(cycle.getId())))
+                 .toList();
+  }
+
+  /**
+   * 종료된 수금 기간 스냅샷 다시 기록 (정정 반영용)
+   */
+  public CycleSnapshotSummaryDto rewriteSnapshot(Long groupId, Long cycleId) {
+    PaymentCycle cycle = paymentCycleRepository.findById(cycleId)
+                                               .orElseThrow(() -> new PaymentCycleException(PaymentCycleErrorCode.NOT_FOUND_CYCLE));
+    if (!cycle.getGroup().getId().equals(groupId)) {
+      throw new PaymentCycleException(PaymentCycleErrorCode.NOT_CYCLE_PERIOD);
+    }
+    return paymentCycleSnapshotService.write(cycleId);
   }
 }
@@ -0,0 +1,240 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import com.example.capstonedesign20252.common.cache.CacheWeighted;
+import com.example.capstonedesign20252.common.event.CycleClosedEvent;
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
+import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleErrorCode;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleException;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleSnapshot;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleSnapshotRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료된 수금 기간 스냅샷
+ *
+ * - 수금 기간 종료 커밋 후 집계 + 멤버별 납부 상태를 한 번 기록
+ * - 종료된 기간에 납부 정정(수동 확인 등)이 들어오면 다시 기록 → etag가 바뀜
+ * - 풀어 둔 멤버 목록은 etag 기준으로 캐시하므로 따로 삭제할 필요 없음
+ */
+@Slf4j
+@Service
+public class PaymentCycleSnapshotService {
+
+  private static final String CACHE_NAME = "feeSnapshot";
+  private static final TypeReference<List<MemberPaymentDto>> MEMBER_LIST = new TypeReference<>() {};
+  public static final Comparator<MemberPaymentDto> BY_NAME =
+      Comparator.comparing(MemberPaymentDto::name).thenComparing(MemberPaymentDto::memberId);
+
+  private final PaymentCycleSnapshotRepository snapshotRepository;
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final GroupMemberRepository groupMemberRepository;
+  private final ObjectMapper objectMapper;
+  private final CacheManager cacheManager;
+  private final TransactionTemplate requiresNewTemplate;
+
+  public PaymentCycleSnapshotService(PaymentCycleSnapshotRepository snapshotRepository,
+      PaymentCycleRepository paymentCycleRepository,
+      GroupMemberRepository groupMemberRepository,
+      ObjectMapper objectMapper,
+      CacheManager cacheManager,
+      PlatformTransactionManager transactionManager) {
+    this.snapshotRepository = snapshotRepository;
+    this.paymentCycleRepository = paymentCycleRepository;
+    this.groupMemberRepository = groupMemberRepository;
+    this.objectMapper = objectMapper;
+    this.cacheManager = cacheManager;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCycleClosed(CycleClosedEvent event) {
+    writeQuietly(event.cycleId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPaymentPaid(PaymentPaidEvent event) {
+    // 자동 매칭은 진행 중인 기간 결제만 납부 처리하므로 스냅샷 조회 없이 넘어감
+    // (매칭과 종료가 겹치면 종료 쪽 연체 UPDATE가 납부 커밋을 기다린 뒤 스냅샷을 기록하므로 납부가 반영됨)
+    if (event.activeCycle()) {
+      return;
+    }
+    findSummary(event.groupId(), event.period())
+        .ifPresent(summary -> {
+          log.info("종료된 수금 기간 납부 정정 - groupId: {}, period: {}", event.groupId(), event.period());
+          writeQuietly(summary.cycleId());
+        });
+  }
+
+  /**
+   * 스냅샷 기록 (있으면 덮어씀, 새 트랜잭션)
+   */
+  public CycleSnapshotSummaryDto write(Long cycleId) {
+    return requiresNewTemplate.execute(status -> {
+      PaymentCycle cycle = paymentCycleRepository.findById(cycleId)
+                                                 .orElseThrow(() -> new PaymentCycleException(PaymentCycleErrorCode.NOT_FOUND_CYCLE));
+      if (cycle.isActive()) {
+        throw new PaymentCycleException(PaymentCycleErrorCode.NOT_CLOSED_CYCLE);
+      }
+      Long groupId = cycle.getGroup().getId();
+
+      List<MemberPaymentDto> members;
+      try (Stream<MemberPaymentDto> rows = groupMemberRepository.streamFeeRows(groupId, cycle.getPeriod(), null)) {
+        members = rows.sorted(BY_NAME).toList();
+      }
+
+      int paid = 0;
+      int overdue = 0;
+      long collected = 0;
+      for (MemberPaymentDto member : members) {
+        if ("PAID".equals(member.status())) {
+          paid++;
+          collected += member.paidAmount();
+        } else if ("OVERDUE".equals(member.status())) {
+          overdue++;
+        }
+      }
+      int pending = members.size() - paid - overdue;
+
+      PaymentCycleSnapshot snapshot = snapshotRepository.findByCycleId(cycleId)
+                                                        .orElseGet(() -> PaymentCycleSnapshot.builder()
+                                                                                             .cycleId(cycleId)
+                                                                                             .groupId(groupId)
+                                                                                             .period(cycle.getPeriod())
+                                                                                             .groupName(cycle.getGroup().getGroupName())
+                                                                                             .monthlyFee(cycle.getMonthlyFee())
+                                                                                             .build());
+      byte[] membersGz = gzip(members);
+      String etag = etag(membersGz, snapshot.getGroupName(), snapshot.getMonthlyFee(), paid, pending, overdue, collected);
+      snapshot.record(members.size(), paid, pending, overdue, collected, membersGz, etag);
+      snapshotRepository.save(snapshot);
+
+      log.info("수금 기간 스냅샷 기록 - groupId: {}, cycleId: {}, period: {}, 멤버: {}명, {}bytes",
+          groupId, cycleId, cycle.getPeriod(), members.size(), membersGz.length);
+      return toSummary(snapshot);
+    });
+  }
+
+  /**
+   * 기간 스냅샷 집계 (진행 중이거나 스냅샷이 없으면 empty)
+   */
+  public Optional<CycleSnapshotSummaryDto> findSummary(Long groupId, String period) {
+    return snapshotRepository.findSummaries(groupId, period, PageRequest.of(0, 1)).stream().findFirst();
+  }
+
+  public Map<Long, CycleSnapshotSummaryDto> findSummaries(Collection<Long> cycleIds) {
+    if (cycleIds.isEmpty()) {
+      return Map.of();
+    }
+    return snapshotRepository.findSummariesByCycleIds(cycleIds).stream()
+                             .collect(Collectors.toMap(CycleSnapshotSummaryDto::cycleId, Function.identity()));
+  }
+
+  /**
+   * 스냅샷 멤버 목록 (이름순, 변경 불가)
+   */
+  public List<MemberPaymentDto> getMembers(CycleSnapshotSummaryDto summary) {
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    SnapshotMembers cached = cache == null ? null : cache.get(summary.etag(), SnapshotMembers.class);
+    if (cached != null) {
+      return cached.members();
+    }
+
+    List<MemberPaymentDto> members = gunzip(snapshotRepository.findMembersGzById(summary.snapshotId()));
+    if (cache != null) {
+      cache.put(summary.etag(), new SnapshotMembers(members));
+    }
+    return members;
+  }
+
+  private void writeQuietly(Long cycleId) {
+    try {
+      write(cycleId);
+    } catch (Exception e) {
+      // 스냅샷이 없으면 실시간 조회로 대신하므로 실패해도 종료/납부 처리는 유지
+      log.error("수금 기간 스냅샷 기록 실패 - cycleId: {}", cycleId, e);
+    }
+  }
+
+  private byte[] gzip(List<MemberPaymentDto> members) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      objectMapper.writeValue(out, members);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private List<MemberPaymentDto> gunzip(byte[] membersGz) {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(membersGz))) {
+      return List.copyOf(objectMapper.readValue(in, MEMBER_LIST));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String etag(byte[] membersGz, Object... summary) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(membersGz);
+      for (Object value : summary) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static CycleSnapshotSummaryDto toSummary(PaymentCycleSnapshot snapshot) {
+    return new CycleSnapshotSummaryDto(snapshot.getId(), snapshot.getCycleId(), snapshot.getPeriod(),
+        snapshot.getGroupName(), snapshot.getMonthlyFee(), snapshot.getTotalMembers(), snapshot.getPaidMembers(),
+        snapshot.getPendingMembers(), snapshot.getOverdueMembers(), snapshot.getTotalCollected(), snapshot.getEtag());
+  }
+
+  private record SnapshotMembers(List<MemberPaymentDto> members) implements CacheWeighted {
+
+    @Override
+    public int cacheWeight() {
+      return members.size();
+    }
+  }
+}
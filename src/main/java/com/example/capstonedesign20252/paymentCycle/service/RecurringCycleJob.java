@@ -0,0 +1,191 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import com.example.capstonedesign20252.common.lease.SchedulerLeaseService;
+import com.example.capstonedesign20252.group.dto.RecurringGroupDto;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import com.example.capstonedesign20252.groupMember.domain.GroupMemberException;
+import com.example.capstonedesign20252.paymentCycle.config.RecurringCycleProperties;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycleException;
+import com.example.capstonedesign20252.paymentCycle.dto.PaymentCycleResponseDto;
+import com.example.capstonedesign20252.paymentCycle.dto.RecurringCycleRunDto;
+import com.example.capstonedesign20252.paymentCycle.dto.StartPaymentCycleRequestDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매월 자동 수금 시작 작업
+ *
+ * - 자동 수금을 켠 그룹 중 청구일이 지났고 이번 달 수금 기간이 없는 그룹이 대상
+ * - 대상 그룹을 parallelism 개 샤드로 나눠 동시에 처리, 그룹마다 startPaymentCycle (INSERT ... SELECT) 한 트랜잭션
+ * - scheduler_lease 점유를 얻은 인스턴스 한 곳에서만 실행
+ */
+@Slf4j
+@Component
+public class RecurringCycleJob {
+
+  private static final String LEASE_NAME = "recurring-payment-cycle";
+  private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+  private static final LocalTime DUE_TIME = LocalTime.of(23, 59, 59);
+
+  private final GroupRepository groupRepository;
+  private final PaymentCycleService paymentCycleService;
+  private final SchedulerLeaseService schedulerLeaseService;
+  private final RecurringCycleProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor;
+  private final Counter paymentsCounter;
+
+  public RecurringCycleJob(GroupRepository groupRepository,
+      PaymentCycleService paymentCycleService,
+      SchedulerLeaseService schedulerLeaseService,
+      RecurringCycleProperties properties,
+      MeterRegistry meterRegistry) {
+    this.groupRepository = groupRepository;
+    this.paymentCycleService = paymentCycleService;
+    this.schedulerLeaseService = schedulerLeaseService;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.executor = Executors.newFixedThreadPool(Math.max(properties.getParallelism(), 1),
+        new CustomizableThreadFactory("recurring-cycle-"));
+    this.paymentsCounter = Counter.builder("payment.cycle.recurring.payments")
+                                  .description("자동 수금 시작으로 생성된 결제 건수")
+                                  .register(meterRegistry);
+  }
+
+  @Scheduled(cron = "${payment-cycle.recurring.cron:0 5 0 * * *}")
+  public void scheduledRun() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    if (!schedulerLeaseService.tryAcquire(LEASE_NAME, properties.getLeaseDuration())) {
+      log.debug("자동 수금 시작 작업 - 다른 인스턴스가 실행 중");
+      return;
+    }
+    try {
+      run(LocalDate.now());
+    } finally {
+      schedulerLeaseService.release(LEASE_NAME);
+    }
+  }
+
+  /**
+   * today 기준 자동 수금 시작 (점유 없이 바로 실행)
+   */
+  public RecurringCycleRunDto run(LocalDate today) {
+    long startedAt = System.nanoTime();
+    YearMonth month = YearMonth.from(today);
+    String period = month.format(PERIOD_FORMAT);
+    List<RecurringGroupDto> groups = groupRepository.findRecurringDue(period, today.getDayOfMonth());
+
+    int shardCount = Math.max(properties.getParallelism(), 1);
+    List<Future<ShardResult>> futures = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      List<RecurringGroupDto> shardGroups = new ArrayList<>();
+      for (int i = shard; i < groups.size(); i += shardCount) {
+        shardGroups.add(groups.get(i));
+      }
+      if (!shardGroups.isEmpty()) {
+        futures.add(executor.submit(() -> processShard(shardGroups, month)));
+      }
+    }
+
+    ShardResult total = new ShardResult();
+    for (Future<ShardResult> future : futures) {
+      try {
+        total.add(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException e) {
+        log.error("자동 수금 시작 샤드 실패 - period: {}", period, e.getCause());
+      }
+    }
+
+    long elapsed = System.nanoTime() - startedAt;
+    Timer.builder("payment.cycle.recurring.run")
+         .register(meterRegistry)
+         .record(elapsed, TimeUnit.NANOSECONDS);
+    countGroups("started", total.started);
+    countGroups("skipped", total.skipped);
+    countGroups("failed", total.failed);
+    paymentsCounter.increment(total.payments);
+
+    RecurringCycleRunDto result = new RecurringCycleRunDto(period, total.started, total.skipped,
+        total.failed, total.payments, elapsed / 1_000_000);
+    if (!groups.isEmpty()) {
+      log.info("자동 수금 시작 완료 - period: {}, 대상: {}개, 시작: {}개, 건너뜀: {}개, 실패: {}개, 결제 생성: {}건, {}ms",
+          period, groups.size(), result.started(), result.skipped(), result.failed(),
+          result.createdPayments(), result.elapsedMillis());
+    }
+    return result;
+  }
+
+  private ShardResult processShard(List<RecurringGroupDto> groups, YearMonth month) {
+    ShardResult result = new ShardResult();
+    for (RecurringGroupDto group : groups) {
+      LocalDateTime dueDate = month.atDay(group.billingDay())
+                                   .plusDays(group.dueOffsetDays() == null ? 0 : group.dueOffsetDays())
+                                   .atTime(DUE_TIME);
+      try {
+        PaymentCycleResponseDto cycle = paymentCycleService.startPaymentCycle(group.groupId(),
+            new StartPaymentCycleRequestDto(month.format(PERIOD_FORMAT), dueDate));
+        result.started++;
+        result.payments += cycle.createdPayments();
+      } catch (PaymentCycleException | GroupMemberException e) {
+        // 이전 수금 기간이 아직 진행 중이거나 멤버가 없는 그룹
+        log.info("자동 수금 시작 건너뜀 - groupId: {}, 사유: {}", group.groupId(), e.getMessage());
+        result.skipped++;
+      } catch (Exception e) {
+        log.error("자동 수금 시작 실패 - groupId: {}", group.groupId(), e);
+        result.failed++;
+      }
+    }
+    return result;
+  }
+
+  private void countGroups(String result, int count) {
+    Counter.builder("payment.cycle.recurring.groups")
+           .description("자동 수금 시작 작업이 처리한 그룹 수")
+           .tag("result", result)
+           .register(meterRegistry)
+           .increment(count);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static class ShardResult {
+
+    private int started;
+    private int skipped;
+    private int failed;
+    private long payments;
+
+    private void add(ShardResult other) {
+      started += other.started;
+      skipped += other.skipped;
+      failed += other.failed;
+      payments += other.payments;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto=update로 운영 DB에 만들어져 있던 테이블 그대로)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용
+
+create table dashboard (
+    paid_count integer not null,
+    total_fee integer not null,
+    unpaid_count integer not null,
+    group_id bigint not null,
+    id bigint not null auto_increment,
+    primary key (id)
+) engine=InnoDB;
+
+create table group_member (
+    is_admin bit not null,
+    created_at datetime(6),
+    group_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    email varchar(255),
+    name varchar(255) not null,
+    phone varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table groups (
+    fee integer not null,
+    id bigint not null auto_increment,
+    user_id bigint,
+    account_name varchar(255) not null,
+    description varchar(255) not null,
+    group_name varchar(255) not null,
+    group_category enum ('CLUB','OTHER','PROJECT','SOCIAL_GATHERING','STUDY') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table payment_cycles (
+    monthly_fee integer,
+    total_members integer,
+    period varchar(7) not null,
+    closed_at datetime(6),
+    created_at datetime(6) not null,
+    due_date datetime(6),
+    group_id bigint not null,
+    id bigint not null auto_increment,
+    start_date datetime(6) not null,
+    status varchar(20) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table payment_log (
+    amount integer not null,
+    is_processed bit not null,
+    id bigint not null auto_increment,
+    mathced_payment_id bigint,
+    received_at datetime(6) not null,
+    name varchar(255) not null,
+    target_account varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table payments (
+    amount decimal(10,2) not null,
+    created_at datetime(6) not null,
+    due_date datetime(6),
+    group_id bigint not null,
+    group_member_id bigint not null,
+    id bigint not null auto_increment,
+    paid_at datetime(6),
+    status varchar(20) not null,
+    payment_period varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    email varchar(255) not null,
+    kakao_id varchar(255),
+    name varchar(255) not null,
+    phone varchar(255),
+    profile_image varchar(255),
+    login_type enum ('KAKAO','NAVER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_group_status 
+   on payment_cycles (group_id, status);
+
+create index idx_group_period 
+   on payment_cycles (group_id, period);
+
+alter table if exists users 
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table if exists users 
+   add constraint UKk4ycaj27putgcujmehwbsrmmc unique (kakao_id);
+
+alter table if exists dashboard 
+   add constraint FKfqk85poee2f5ekrhwncxhbvsc 
+   foreign key (group_id) 
+   references groups (id);
+
+alter table if exists group_member 
+   add constraint FK1vi8xivvj1grbxi4hgqq295kl 
+   foreign key (group_id) 
+   references groups (id);
+
+alter table if exists groups 
+   add constraint FK4cygfv5el2o2v3hbkdkscfw5q 
+   foreign key (user_id) 
+   references users (id);
+
+alter table if exists payment_cycles 
+   add constraint FK3uo2epupvud6803bece64ludm 
+   foreign key (group_id) 
+   references groups (id);
+
+alter table if exists payments 
+   add constraint FKjeqnjw00iwcmqvpra9wjmicap 
+   foreign key (group_id) 
+   references groups (id);
+
+alter table if exists payments 
+   add constraint FK4e7fewqmfd42kbh6pu4qawer7 
+   foreign key (group_member_id) 
+   references group_member (id);
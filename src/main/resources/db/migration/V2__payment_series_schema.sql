@@ -0,0 +1,95 @@
+-- 기준 스키마 이후 추가된 테이블/컬럼 (입금 처리, 캐시 무효화, 대시보드 집계, 수금 기간 자동화, 스냅샷, 보관)
+
+-- 입금 내역: id를 IDENTITY → 시퀀스(allocationSize 50), 중복 알림 방지 키, 미처리 재매칭 조회
+-- (시퀀스를 기존 MAX(id) 이후로 맞추는 것은 V2.1 PaymentLogSequenceMigration)
+alter table payment_log modify id bigint not null;
+create sequence payment_log_seq start with 1 increment by 50 nocache;
+alter table payment_log add column idempotency_key varchar(64);
+alter table payment_log add constraint uk_payment_log_idempotency_key unique (idempotency_key);
+create index idx_processed_received on payment_log (is_processed, received_at);
+
+-- 결제: 기간을 "yyyy-MM" 문자열 → yyyymm INT
+-- 기존 엔티티는 아무 문자열이나 받았으므로 INT로 바꾸기 전에 모든 행을 yyyymm으로 맞춤
+-- (변환 중 실패하면 DDL이 반쯤 적용된 채 멈추고, strict 모드가 아니면 잘린 값이 엉뚱한 기간이 됨)
+-- 1. "yyyy-M", "yyyy-MM" (구분자 - . /) → yyyymm
+update payments set payment_period = trim(payment_period) where payment_period is not null;
+update payments set payment_period = concat(left(payment_period, 4), lpad(substring(payment_period, 6), 2, '0'))
+ where payment_period regexp '^[0-9]{4}[-./][0-9]{1,2}$';
+-- 2. 비어 있거나 그 밖의 형식, 없는 월(13월 등)은 생성 월
+update payments set payment_period = year(created_at) * 100 + month(created_at)
+ where payment_period is null or payment_period not regexp '^[0-9]{4}(0[1-9]|1[0-2])$';
+alter table payments modify payment_period integer not null;
+create index idx_payment_group_status_paid on payments (group_id, status, paid_at);
+
+-- 멤버: 그룹 내 이름 매칭
+create index idx_group_member_group_name on group_member (group_id, name);
+
+-- 그룹: 자동 수금 설정
+alter table groups add column billing_day integer;
+alter table groups add column due_offset_days integer;
+alter table groups add column recurring_enabled bit default false not null;
+
+-- 대시보드: 그룹 단위 → 그룹 + 기간 단위 집계 (기존 행은 지우고 조회/시작 시 재계산)
+delete from dashboard;
+alter table dashboard add column paid_amount integer not null;
+alter table dashboard add column period varchar(7) not null;
+alter table dashboard add constraint uk_dashboard_group_period unique (group_id, period);
+
+-- 인스턴스 간 그룹 캐시 무효화
+create table cache_invalidation (
+    created_at datetime(6) not null,
+    group_id bigint not null,
+    id bigint not null auto_increment,
+    node_id varchar(36) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_cache_invalidation_created on cache_invalidation (created_at);
+
+-- 스케줄 작업 점유
+create table scheduler_lease (
+    lease_until datetime(6) not null,
+    owner varchar(36) not null,
+    name varchar(100) not null,
+    primary key (name)
+) engine=InnoDB;
+
+-- 종료된 수금 기간 스냅샷
+create table payment_cycle_snapshots (
+    monthly_fee integer not null,
+    overdue_members integer not null,
+    paid_members integer not null,
+    pending_members integer not null,
+    total_members integer not null,
+    period varchar(7) not null,
+    created_at datetime(6) not null,
+    cycle_id bigint not null,
+    group_id bigint not null,
+    id bigint not null auto_increment,
+    total_collected bigint not null,
+    etag varchar(64) not null,
+    group_name varchar(255) not null,
+    members_gz mediumblob not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table payment_cycle_snapshots add constraint uk_cycle_snapshot_cycle unique (cycle_id);
+create index idx_cycle_snapshot_group_period on payment_cycle_snapshots (group_id, period);
+
+-- 보관된 결제 건
+create table payments_archive (
+    amount decimal(10,2) not null,
+    payment_period integer not null,
+    archived_at datetime(6) not null,
+    created_at datetime(6) not null,
+    due_date datetime(6),
+    group_id bigint not null,
+    group_member_id bigint not null,
+    id bigint not null,
+    paid_at datetime(6),
+    status varchar(20) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_payment_archive_group_period on payments_archive (group_id, payment_period);
+create index idx_payment_archive_member on payments_archive (group_member_id);
@@ -0,0 +1,16 @@
+-- 조회 조건 순서대로 복합 인덱스
+
+-- 결제: 그룹 + 기간 (+ 상태) 집계/연체 처리/입금 인덱스 적재, 멤버 + 기간 (+ 상태) 회비 현황 조인/입금 매칭
+create index idx_payment_group_period_status on payments (group_id, payment_period, status);
+create index idx_payment_member_period_status on payments (group_member_id, payment_period, status);
+
+-- 멤버: 그룹 내 중복 연락처/이메일 확인
+create index idx_group_member_group_phone on group_member (group_id, phone);
+create index idx_group_member_group_email on group_member (group_id, email);
+
+-- 그룹: 입금 계좌 → 그룹, 자동 수금 대상 조회
+create index idx_group_account_name on groups (account_name);
+create index idx_group_recurring on groups (recurring_enabled, billing_day);
+
+-- 수금 기간: 마감 스케줄러 (진행 중 + 마감일)
+create index idx_cycle_status_due on payment_cycles (status, due_date);
@@ -0,0 +1,2 @@
+-- 입금 로그: 수금 시작/멤버 추가 시 해당 그룹 통장의 미처리 입금만 재매칭
+create index idx_account_processed_received on payment_log (target_account, is_processed, received_at);
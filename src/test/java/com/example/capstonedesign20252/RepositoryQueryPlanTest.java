@@ -0,0 +1,331 @@
+package com.example.capstonedesign20252;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검사 (인덱스 없이 테이블 전체를 읽으면 실패)
+ *
+ * - 리포지토리 인터페이스에 직접 선언한 메서드를 예시 인자로 모두 호출 (트랜잭션은 롤백)
+ * - 호출 중 실행된 SQL과 바인딩 값을 datasource-proxy로 모아 같은 값으로 EXPLAIN
+ * - MariaDB: type=ALL이면서 possible_keys가 없는 행, H2: 계획의 tableScan
+ * - 전체를 읽는 것이 목적인 쿼리만 FULL_SCAN_ALLOWED에 사유와 함께 등록
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RepositoryQueryPlanTest.RecordingConfig.class)
+class RepositoryQueryPlanTest {
+
+  private static final String BASE_PACKAGE = "com.example.capstonedesign20252";
+
+  private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+      "GroupRepository.findAllRoutes", "입금 라우팅 표 전체 적재 (시작 시 + 변경 시)",
+      "PaymentRepository.findGroupPeriodsBefore",
+      "보관 작업 하루 한 번, MariaDB에서는 payment_period 파티션 프루닝");
+
+  private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\*\\s*([\\w.\"]+)\\.tableScan\\s*\\*/");
+
+  @Autowired
+  private ApplicationContext context;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void repositoryQueriesUseIndexes() throws SQLException {
+    List<RecordedQuery> queries = runRepositoryMethods();
+    assertThat(queries).isNotEmpty();
+
+    List<String> violations = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection()) {
+      boolean mariaDb = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mariadb");
+      for (RecordedQuery query : queries) {
+        if (!isExplainable(query.sql()) || FULL_SCAN_ALLOWED.containsKey(query.method())) {
+          continue;
+        }
+        Set<String> scanned = mariaDb ? explainMariaDb(connection, query) : explainH2(connection, query);
+        if (!scanned.isEmpty()) {
+          violations.add(query.method() + " - full scan: " + scanned + "\n  " + query.sql());
+        }
+      }
+    }
+
+    assertThat(violations).as("인덱스 없이 전체를 읽는 쿼리").isEmpty();
+  }
+
+  // 각 메서드를 롤백 트랜잭션 안에서 호출, 그 사이 이 스레드에서 실행된 SQL 반환
+  private List<RecordedQuery> runRepositoryMethods() {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    List<String> failures = new ArrayList<>();
+
+    for (Object repository : context.getBeansOfType(Repository.class).values()) {
+      for (Class<?> repositoryInterface : repositoryInterfaces(repository)) {
+        Method[] methods = repositoryInterface.getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method method : methods) {
+          if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+            continue;
+          }
+          String label = repositoryInterface.getSimpleName() + "." + method.getName();
+          Object[] args = Arrays.stream(method.getParameters()).map(RepositoryQueryPlanTest::sampleArg).toArray();
+          QueryRecorder.start(label);
+          try {
+            template.executeWithoutResult(status -> {
+              status.setRollbackOnly();
+              consume(invoke(method, repository, args));
+            });
+          } catch (RuntimeException e) {
+            failures.add(label + " - " + e);
+          } finally {
+            QueryRecorder.stop();
+          }
+        }
+      }
+    }
+
+    assertThat(failures).as("예시 인자로 호출 실패한 리포지토리 메서드").isEmpty();
+    return QueryRecorder.recorded();
+  }
+
+  private static List<Class<?>> repositoryInterfaces(Object repository) {
+    List<Class<?>> interfaces = new ArrayList<>();
+    for (Class<?> type : AopUtils.getTargetClass(repository).getInterfaces()) {
+      if (type.getName().startsWith(BASE_PACKAGE)) {
+        interfaces.add(type);
+      }
+    }
+    for (Class<?> type : repository.getClass().getInterfaces()) {
+      if (type.getName().startsWith(BASE_PACKAGE) && !interfaces.contains(type)) {
+        interfaces.add(type);
+      }
+    }
+    return interfaces;
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args) {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // Stream 반환 메서드는 끝까지 읽어야 쿼리가 실행됨
+  private static void consume(Object result) {
+    if (result instanceof Stream<?> stream) {
+      try (stream) {
+        stream.forEach(row -> { });
+      }
+    }
+  }
+
+  private static Object sampleArg(Parameter parameter) {
+    Class<?> type = parameter.getType();
+    if (type == Long.class || type == long.class) {
+      return 1L;
+    }
+    if (type == Integer.class || type == int.class) {
+      return 1;
+    }
+    if (type == Boolean.class || type == boolean.class) {
+      return false;
+    }
+    if (type == BigDecimal.class) {
+      return BigDecimal.TEN;
+    }
+    if (type == LocalDateTime.class) {
+      return LocalDateTime.of(2026, 10, 1, 0, 0);
+    }
+    if (type == Pageable.class) {
+      return PageRequest.of(0, 10);
+    }
+    if (type == String.class) {
+      return sampleString(parameterName(parameter));
+    }
+    if (Collection.class.isAssignableFrom(type)
+        && parameter.getParameterizedType() instanceof ParameterizedType collectionType) {
+      return collectionType.getActualTypeArguments()[0] == String.class ? List.of("sample") : List.of(1L);
+    }
+    throw new IllegalArgumentException("예시 인자 없음 - " + parameter);
+  }
+
+  // 기간 문자열은 컨버터를 거치므로 올바른 yyyy-MM이어야 함
+  private static String sampleString(String name) {
+    String lower = name.toLowerCase();
+    if (lower.contains("period") || lower.equals("cutoff")) {
+      return "2026-10";
+    }
+    if (lower.equals("status")) {
+      return "PENDING";
+    }
+    return "sample";
+  }
+
+  private static String parameterName(Parameter parameter) {
+    Param param = parameter.getAnnotation(Param.class);
+    return param != null ? param.value() : parameter.getName();
+  }
+
+  private static boolean isExplainable(String sql) {
+    String lower = sql.stripLeading().toLowerCase();
+    return lower.startsWith("select") || lower.startsWith("update") || lower.startsWith("delete")
+        || (lower.startsWith("insert") && lower.contains(" select "));
+  }
+
+  private static Set<String> explainH2(Connection connection, RecordedQuery query) throws SQLException {
+    Set<String> scanned = new TreeSet<>();
+    try (PreparedStatement statement = prepareExplain(connection, query);
+        ResultSet rs = statement.executeQuery()) {
+      while (rs.next()) {
+        Matcher matcher = H2_TABLE_SCAN.matcher(rs.getString(1));
+        while (matcher.find()) {
+          scanned.add(matcher.group(1));
+        }
+      }
+    }
+    return scanned;
+  }
+
+  private static Set<String> explainMariaDb(Connection connection, RecordedQuery query) throws SQLException {
+    Set<String> scanned = new TreeSet<>();
+    try (PreparedStatement statement = prepareExplain(connection, query);
+        ResultSet rs = statement.executeQuery()) {
+      while (rs.next()) {
+        String table = rs.getString("table");
+        // 파생 테이블(<derivedN>)은 안쪽 쿼리 행에서 따로 검사됨
+        if ("ALL".equals(rs.getString("type")) && rs.getString("possible_keys") == null
+            && table != null && !table.startsWith("<")) {
+          scanned.add(table);
+        }
+      }
+    }
+    return scanned;
+  }
+
+  private static PreparedStatement prepareExplain(Connection connection, RecordedQuery query) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql());
+    for (int i = 0; i < query.params().size(); i++) {
+      statement.setObject(i + 1, query.params().get(i));
+    }
+    return statement;
+  }
+
+  private record RecordedQuery(String method, String sql, List<Object> params) {
+  }
+
+  /**
+   * 테스트 스레드에서 실행된 SQL 기록 (스케줄러 등 다른 스레드 쿼리는 제외)
+   */
+  static class QueryRecorder implements QueryExecutionListener {
+
+    private static final List<RecordedQuery> RECORDED = new ArrayList<>();
+    private static volatile Thread thread;
+    private static volatile String label;
+
+    static void start(String method) {
+      label = method;
+      thread = Thread.currentThread();
+    }
+
+    static void stop() {
+      thread = null;
+    }
+
+    static List<RecordedQuery> recorded() {
+      return List.copyOf(RECORDED);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      if (Thread.currentThread() != thread) {
+        return;
+      }
+      for (QueryInfo queryInfo : queryInfoList) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        RECORDED.add(new RecordedQuery(label, queryInfo.getQuery(),
+            parametersList.isEmpty() ? List.of() : toParams(parametersList.get(0))));
+      }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    // setXxx(index, value) 순서 그대로, setNull은 null
+    private static List<Object> toParams(List<ParameterSetOperation> operations) {
+      List<ParameterSetOperation> sorted = new ArrayList<>(operations);
+      sorted.sort(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]));
+      List<Object> params = new ArrayList<>();
+      for (ParameterSetOperation operation : sorted) {
+        params.add(ParameterSetOperation.isSetNullParameterOperation(operation) ? null : operation.getArgs()[1]);
+      }
+      return params;
+    }
+  }
+
+  @TestConfiguration
+  static class RecordingConfig {
+
+    @Bean
+    static BeanPostProcessor queryRecordingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource dataSource) {
+            return ProxyDataSourceBuilder.create(dataSource).listener(new QueryRecorder()).build();
+          }
+          return bean;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.capstonedesign20252.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * cache_invalidation 테이블 전달 (인스턴스마다 읽은 위치가 따로 있으므로 인스턴스 하나 = 노드 하나)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcCacheInvalidationTransportTest {
+
+  @Autowired
+  private CacheInvalidationRepository repository;
+
+  @Autowired
+  private ClusterCacheProperties properties;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void otherNodesReceiveMessagesSentAfterTheyStarted() {
+    JdbcCacheInvalidationTransport nodeA = newNode();
+    JdbcCacheInvalidationTransport nodeB = newNode();
+
+    nodeA.send("node-a", List.of(-1L));
+    // 첫 수신은 시작 위치만 기록 (이전 메시지 무시)
+    assertThat(nodeA.receive("node-a")).isEmpty();
+    assertThat(nodeB.receive("node-b")).isEmpty();
+
+    nodeA.send("node-a", List.of(-2L, -3L));
+    nodeB.send("node-b", List.of(-4L));
+
+    assertThat(testGroups(nodeB.receive("node-b"))).containsExactly(-2L, -3L);
+    assertThat(testGroups(nodeA.receive("node-a"))).containsExactly(-4L);
+    assertThat(testGroups(nodeB.receive("node-b"))).isEmpty();
+  }
+
+  // 같은 테이블을 쓰는 애플리케이션 동기화가 보낸 실제 그룹(양수 id)은 제외
+  private static List<Long> testGroups(List<Long> groupIds) {
+    return groupIds.stream().filter(groupId -> groupId < 0).toList();
+  }
+
+  private JdbcCacheInvalidationTransport newNode() {
+    return new JdbcCacheInvalidationTransport(repository, properties, transactionManager);
+  }
+}
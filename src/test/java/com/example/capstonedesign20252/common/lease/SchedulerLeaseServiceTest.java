@@ -0,0 +1,118 @@
+package com.example.capstonedesign20252.common.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 두 인스턴스(소유자가 다른 SchedulerLeaseService)가 같은 작업 점유를 다툴 때 한 곳만 성공
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLeaseServiceTest {
+
+  private static final Duration LEASE = Duration.ofMinutes(5);
+
+  @Autowired
+  private SchedulerLeaseRepository schedulerLeaseRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private SchedulerLeaseService nodeA;
+  private SchedulerLeaseService nodeB;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    nodeA = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+    nodeB = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void onlyOneContenderCreatesANewLease() {
+    for (int round = 0; round < 20; round++) {
+      String name = uniqueName();
+
+      List<Boolean> results = contend(() -> nodeA.tryAcquire(name, LEASE), () -> nodeB.tryAcquire(name, LEASE));
+
+      assertThat(results).as("round %d", round).containsExactlyInAnyOrder(true, false);
+    }
+  }
+
+  @Test
+  void holderKeepsLeaseUntilRelease() {
+    String name = uniqueName();
+
+    assertThat(nodeA.tryAcquire(name, LEASE)).isTrue();
+    assertThat(nodeB.tryAcquire(name, LEASE)).isFalse();
+    assertThat(nodeA.tryAcquire(name, LEASE)).as("소유자는 다시 점유(연장) 가능").isTrue();
+
+    nodeA.release(name);
+
+    assertThat(nodeB.tryAcquire(name, LEASE)).isTrue();
+    assertThat(nodeA.tryAcquire(name, LEASE)).isFalse();
+  }
+
+  @Test
+  void expiredLeaseIsTakenOverByOneContender() throws InterruptedException {
+    for (int round = 0; round < 10; round++) {
+      String name = uniqueName();
+      SchedulerLeaseService crashed = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+      assertThat(crashed.tryAcquire(name, Duration.ofMillis(20))).isTrue();
+      Thread.sleep(40);
+
+      List<Boolean> results = contend(() -> nodeA.tryAcquire(name, LEASE), () -> nodeB.tryAcquire(name, LEASE));
+
+      assertThat(results).as("round %d", round).containsExactlyInAnyOrder(true, false);
+      assertThat(crashed.tryAcquire(name, LEASE)).isFalse();
+    }
+  }
+
+  private List<Boolean> contend(Contender first, Contender second) {
+    CountDownLatch start = new CountDownLatch(1);
+    List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+    for (Contender contender : List.of(first, second)) {
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return contender.tryAcquire();
+      }, executor));
+    }
+    start.countDown();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private static String uniqueName() {
+    return "test-lease-" + UUID.randomUUID();
+  }
+
+  @FunctionalInterface
+  private interface Contender {
+
+    boolean tryAcquire();
+  }
+}
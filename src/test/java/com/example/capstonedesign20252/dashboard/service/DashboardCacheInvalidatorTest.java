@@ -0,0 +1,95 @@
+package com.example.capstonedesign20252.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.example.capstonedesign20252.common.cache.InMemoryCacheInvalidationTransport;
+import com.example.capstonedesign20252.payment.service.PaymentStatisticsService;
+import com.example.capstonedesign20252.payment.service.PendingPaymentIndex;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * 노드 간 그룹 캐시 무효화 (두 노드가 같은 전달 수단 공유)
+ */
+class DashboardCacheInvalidatorTest {
+
+  private final FlakyTransport transport = new FlakyTransport();
+  private final Node nodeA = new Node(transport);
+  private final Node nodeB = new Node(transport);
+
+  @Test
+  void evictReachesOtherNodeOnNextSync() {
+    nodeA.cacheDashboard(1L);
+    nodeB.cacheDashboard(1L);
+
+    nodeA.invalidator.evict(1L);
+    assertThat(nodeA.hasDashboard(1L)).isFalse();
+    verify(nodeA.statistics).evict(1L);
+
+    nodeB.invalidator.sync();
+    assertThat(nodeB.hasDashboard(1L)).isTrue();
+
+    nodeA.invalidator.sync();
+    nodeB.invalidator.sync();
+    assertThat(nodeB.hasDashboard(1L)).isFalse();
+    verify(nodeB.statistics).evict(1L);
+    verify(nodeB.pendingIndex).evict(1L);
+    // 자기가 보낸 메시지는 다시 반영하지 않음
+    verify(nodeA.pendingIndex, never()).evict(1L);
+  }
+
+  @Test
+  void failedSendIsRetriedOnNextSync() {
+    nodeB.cacheDashboard(1L);
+    nodeB.cacheDashboard(2L);
+
+    nodeA.invalidator.evict(1L);
+    transport.failNextSend = true;
+    nodeA.invalidator.sync();
+
+    nodeA.invalidator.evict(2L);
+    nodeB.invalidator.sync();
+    assertThat(nodeB.hasDashboard(1L)).isTrue();
+
+    nodeA.invalidator.sync();
+    nodeB.invalidator.sync();
+    assertThat(nodeB.hasDashboard(1L)).isFalse();
+    assertThat(nodeB.hasDashboard(2L)).isFalse();
+  }
+
+  private static class Node {
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("dashboard");
+    private final PaymentStatisticsService statistics = mock(PaymentStatisticsService.class);
+    private final PendingPaymentIndex pendingIndex = mock(PendingPaymentIndex.class);
+    private final DashboardCacheInvalidator invalidator;
+
+    Node(FlakyTransport transport) {
+      this.invalidator = new DashboardCacheInvalidator(cacheManager, statistics, pendingIndex, transport);
+    }
+
+    void cacheDashboard(Long groupId) {
+      cacheManager.getCache("dashboard").put(groupId, "cached");
+    }
+
+    boolean hasDashboard(Long groupId) {
+      return cacheManager.getCache("dashboard").get(groupId) != null;
+    }
+  }
+
+  private static class FlakyTransport extends InMemoryCacheInvalidationTransport {
+    private boolean failNextSend;
+
+    @Override
+    public synchronized void send(String nodeId, Collection<Long> groupIds) {
+      if (failNextSend) {
+        failNextSend = false;
+        throw new IllegalStateException("send failed");
+      }
+      super.send(nodeId, groupIds);
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.example.capstonedesign20252.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.capstonedesign20252.common.event.MemberAddedEvent;
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.dashboard.DashboardRepository;
+import com.example.capstonedesign20252.dashboard.domain.Dashboard;
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.groupMember.domain.GroupMember;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.support.TestFixtures;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대시보드 집계: 납부 증분(커밋 전, 같은 트랜잭션)과 그룹 재계산
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class DashboardCounterServiceTest {
+
+  private static final String PERIOD = "2025-03";
+  private static final int FEE = 10000;
+  private static final int PAYERS = 300;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private DashboardCounterService counterService;
+
+  @Autowired
+  private DashboardRepository dashboardRepository;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void paidEventIncrementsCounterInTheSameTransaction() {
+    Group group = fixtures.group(FEE);
+    List<Payment> payments = payments(group, 3);
+    counterService.rebuild(group.getId());
+    assertCounts(group, 0, 3, 0);
+
+    pay(group, payments.get(0));
+    assertCounts(group, 1, 2, FEE);
+
+    // 롤백되면 증분도 함께 롤백
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.executeWithoutResult(status -> {
+      payAndPublish(group, payments.get(1));
+      status.setRollbackOnly();
+    });
+    assertCounts(group, 1, 2, FEE);
+  }
+
+  @Test
+  void concurrentPaymentsDuringRebuildsAreNotLost() throws Exception {
+    Group group = fixtures.group(FEE);
+    List<Payment> payments = payments(group, PAYERS);
+    counterService.rebuild(group.getId());
+
+    ExecutorService pool = Executors.newFixedThreadPool(12);
+    AtomicBoolean paying = new AtomicBoolean(true);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Integer>> rebuilds = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        rebuilds.add(pool.submit(() -> {
+          start.await();
+          int count = 0;
+          while (paying.get()) {
+            counterService.rebuild(group.getId());
+            count++;
+          }
+          return count;
+        }));
+      }
+
+      List<Future<?>> payers = new ArrayList<>();
+      for (Payment payment : payments) {
+        payers.add(pool.submit(() -> {
+          start.await();
+          pay(group, payment);
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> payer : payers) {
+        payer.get(60, TimeUnit.SECONDS);
+      }
+      paying.set(false);
+      for (Future<Integer> rebuild : rebuilds) {
+        assertThat(rebuild.get(30, TimeUnit.SECONDS)).isPositive();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertCounts(group, PAYERS, 0, PAYERS * FEE);
+  }
+
+  @Test
+  void memberAddedEventRebuildsCounterAfterCommit() throws InterruptedException {
+    Group group = fixtures.group(FEE);
+    payments(group, 2);
+    counterService.rebuild(group.getId());
+
+    GroupMember added = fixtures.member(group, "added");
+    fixtures.payment(group, added, PERIOD);
+    // 같은 그룹 요청이 몰려도 결과는 마지막 상태 기준
+    for (int i = 0; i < 5; i++) {
+      eventPublisher.publishEvent(new MemberAddedEvent(group.getId(), added.getId()));
+    }
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (unpaidCount(group) != 3 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    assertCounts(group, 0, 3, 0);
+  }
+
+  private List<Payment> payments(Group group, int count) {
+    List<Payment> payments = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      payments.add(fixtures.payment(group, fixtures.member(group, "member-" + i), PERIOD));
+    }
+    return payments;
+  }
+
+  private void pay(Group group, Payment payment) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> payAndPublish(group, payment));
+  }
+
+  private void payAndPublish(Group group, Payment payment) {
+    if (paymentRepository.markAsPaidIfPending(payment.getId(), LocalDateTime.now()) == 1) {
+      eventPublisher.publishEvent(new PaymentPaidEvent(
+          group.getId(), payment.getId(), PERIOD, payment.getAmount(), true));
+    }
+  }
+
+  private int unpaidCount(Group group) {
+    return dashboardRepository.findByGroupIdAndPeriod(group.getId(), PERIOD)
+                              .map(Dashboard::getUnpaidCount)
+                              .orElse(-1);
+  }
+
+  private void assertCounts(Group group, int paid, int unpaid, int paidAmount) {
+    Dashboard dashboard = dashboardRepository.findByGroupIdAndPeriod(group.getId(), PERIOD).orElseThrow();
+    assertThat(dashboard.getPaidCount()).isEqualTo(paid);
+    assertThat(dashboard.getUnpaidCount()).isEqualTo(unpaid);
+    assertThat(dashboard.getPaidAmount()).isEqualTo(paidAmount);
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.capstonedesign20252.fee.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.capstonedesign20252.fee.domain.FeeErrorCode;
+import com.example.capstonedesign20252.fee.domain.FeeException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class FeeCursorTest {
+
+  @Test
+  void nameCursorRoundTrip() {
+    MemberPaymentDto last = row(42L, "김철수\n(총무)", null);
+
+    FeeCursor cursor = FeeCursor.after(FeeSort.NAME, last);
+    FeeCursor decoded = FeeCursor.decode(FeeSort.NAME, cursor.encode(FeeSort.NAME));
+
+    assertThat(decoded).isEqualTo(new FeeCursor("김철수\n(총무)", null, 42L));
+  }
+
+  @Test
+  void paidAtCursorRoundTrip() {
+    LocalDateTime paidAt = LocalDateTime.of(2025, 3, 2, 10, 15, 30, 123_000_000);
+
+    FeeCursor paid = FeeCursor.after(FeeSort.PAID_AT, row(7L, "이영희", paidAt));
+    FeeCursor unpaid = FeeCursor.after(FeeSort.PAID_AT, row(8L, "박민수", null));
+
+    assertThat(FeeCursor.decode(FeeSort.PAID_AT, paid.encode(FeeSort.PAID_AT)))
+        .isEqualTo(new FeeCursor(null, paidAt, 7L));
+    assertThat(FeeCursor.decode(FeeSort.PAID_AT, unpaid.encode(FeeSort.PAID_AT)))
+        .isEqualTo(new FeeCursor(null, null, 8L));
+  }
+
+  @Test
+  void encodedCursorIsUrlSafe() {
+    String encoded = FeeCursor.after(FeeSort.NAME, row(1L, "???>>>", null)).encode(FeeSort.NAME);
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+  }
+
+  @Test
+  void malformedCursorIsRejected() {
+    String noSeparator = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+    String badDate = Base64.getUrlEncoder().encodeToString("42\nyesterday".getBytes(StandardCharsets.UTF_8));
+
+    for (String cursor : new String[]{"%%%", noSeparator}) {
+      assertThatThrownBy(() -> FeeCursor.decode(FeeSort.NAME, cursor))
+          .isInstanceOfSatisfying(FeeException.class,
+              e -> assertThat(e.getFeeErrorCode()).isEqualTo(FeeErrorCode.INVALID_CURSOR));
+    }
+    assertThatThrownBy(() -> FeeCursor.decode(FeeSort.PAID_AT, badDate))
+        .isInstanceOfSatisfying(FeeException.class,
+            e -> assertThat(e.getFeeErrorCode()).isEqualTo(FeeErrorCode.INVALID_CURSOR));
+  }
+
+  private static MemberPaymentDto row(Long memberId, String name, LocalDateTime paidAt) {
+    return new MemberPaymentDto(memberId, memberId, name, null, 10000, paidAt == null ? "PENDING" : "PAID", paidAt);
+  }
+}
@@ -0,0 +1,122 @@
+package com.example.capstonedesign20252.fee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.capstonedesign20252.fee.dto.FeeSort;
+import com.example.capstonedesign20252.fee.dto.FeesResponseDto;
+import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.groupMember.domain.GroupMember;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.support.TestFixtures;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회비 현황 keyset 페이지: 커서를 따라 끝까지 넘기면 모든 멤버가 정렬 순서대로 한 번씩
+ * (같은 이름, 같은 납부 시각, 미납이 섞여 있어도)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class FeeServicePagingTest {
+
+  private static final String PERIOD = "2025-03";
+  private static final LocalDateTime EARLY = LocalDateTime.of(2025, 3, 2, 9, 0);
+  private static final LocalDateTime LATE = LocalDateTime.of(2025, 3, 5, 18, 30);
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private FeeService feeService;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Group group;
+  private final List<MemberPaymentDto> expected = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    group = fixtures.group(10000);
+    String[] names = {"kim", "lee", "kim", "park", "lee", "choi", "kim"};
+    LocalDateTime[] paidAts = {LATE, null, EARLY, EARLY, null, LATE, null};
+
+    for (int i = 0; i < names.length; i++) {
+      GroupMember member = fixtures.member(group, names[i]);
+      Payment payment = fixtures.payment(group, member, PERIOD);
+      LocalDateTime paidAt = paidAts[i];
+      if (paidAt != null) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> paymentRepository.markAsPaidIfPending(payment.getId(), paidAt));
+      }
+      expected.add(new MemberPaymentDto(member.getId(), payment.getId(), names[i], null, null,
+          paidAt == null ? "PENDING" : "PAID", paidAt));
+    }
+  }
+
+  @Test
+  void walksAllPagesByName() {
+    List<Long> order = expected.stream()
+                               .sorted(Comparator.comparing(MemberPaymentDto::name)
+                                                 .thenComparing(MemberPaymentDto::memberId))
+                               .map(MemberPaymentDto::memberId)
+                               .toList();
+
+    assertThat(walk(FeeSort.NAME, null)).containsExactlyElementsOf(order);
+  }
+
+  @Test
+  void walksAllPagesByPaidAt() {
+    List<Long> order = expected.stream()
+                               .sorted(Comparator.comparing(MemberPaymentDto::paidAt,
+                                                     Comparator.nullsLast(Comparator.reverseOrder()))
+                                                 .thenComparing(MemberPaymentDto::memberId))
+                               .map(MemberPaymentDto::memberId)
+                               .toList();
+
+    assertThat(walk(FeeSort.PAID_AT, null)).containsExactlyElementsOf(order);
+  }
+
+  @Test
+  void walksFilteredPages() {
+    List<Long> pending = expected.stream()
+                                 .filter(row -> row.paidAt() == null)
+                                 .sorted(Comparator.comparing(MemberPaymentDto::name)
+                                                   .thenComparing(MemberPaymentDto::memberId))
+                                 .map(MemberPaymentDto::memberId)
+                                 .toList();
+
+    assertThat(walk(FeeSort.NAME, "pending")).containsExactlyElementsOf(pending);
+  }
+
+  private List<Long> walk(FeeSort sort, String status) {
+    List<Long> memberIds = new ArrayList<>();
+    String cursor = null;
+    for (int page = 0; page < 10; page++) {
+      FeesResponseDto response = feeService.getFeesStatus(group.getId(), PERIOD, status, sort, cursor, 2, null);
+      assertThat(response.members()).hasSizeLessThanOrEqualTo(2);
+      response.members().forEach(member -> memberIds.add(member.memberId()));
+      cursor = response.nextCursor();
+      if (cursor == null) {
+        return memberIds;
+      }
+    }
+    throw new AssertionError("커서가 끝나지 않음: " + memberIds);
+  }
+}
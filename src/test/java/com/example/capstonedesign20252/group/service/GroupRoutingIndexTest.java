@@ -0,0 +1,76 @@
+package com.example.capstonedesign20252.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.capstonedesign20252.group.dto.GroupRouteDto;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 전체 재적재 중(DB 조회 후 적용 전)에 들어온 그룹 변경이 오래된 조회 결과에 덮이지 않아야 함
+ */
+class GroupRoutingIndexTest {
+
+  private final GroupRepository groupRepository = mock(GroupRepository.class);
+  private final GroupRoutingIndex index = new GroupRoutingIndex(groupRepository);
+
+  @Test
+  void keepsGroupCreatedDuringReload() {
+    when(groupRepository.findAllRoutes()).thenAnswer(invocation -> {
+      List<GroupRouteDto> stale = List.of(new GroupRouteDto(1L, "old-account", "old"));
+      index.put(2L, "new-account", "new");
+      return stale;
+    });
+
+    index.reload();
+
+    assertThat(index.findExact("old-account")).contains(1L);
+    assertThat(index.findExact("new-account")).contains(2L);
+  }
+
+  @Test
+  void keepsGroupDeletedDuringReloadRemoved() {
+    when(groupRepository.findAllRoutes()).thenAnswer(invocation -> {
+      List<GroupRouteDto> stale = List.of(new GroupRouteDto(1L, "account", "group"));
+      index.remove(1L);
+      return stale;
+    });
+
+    index.reload();
+
+    assertThat(index.findExact("account")).isEmpty();
+  }
+
+  @Test
+  void appliesRenameDuringReload() {
+    when(groupRepository.findAllRoutes()).thenAnswer(invocation -> {
+      List<GroupRouteDto> stale = List.of(new GroupRouteDto(1L, "before", "group"));
+      index.put(1L, "after", "group");
+      return stale;
+    });
+
+    index.reload();
+
+    assertThat(index.findExact("before")).isEmpty();
+    assertThat(index.findExact("after")).contains(1L);
+  }
+
+  @Test
+  void laterReloadUsesDatabaseOnly() {
+    when(groupRepository.findAllRoutes())
+        .thenAnswer(invocation -> {
+          index.put(2L, "new-account", "new");
+          return List.of();
+        })
+        .thenReturn(List.of(new GroupRouteDto(3L, "other", "other")));
+
+    index.reload();
+    index.reload();
+
+    assertThat(index.findExact("new-account")).isEmpty();
+    assertThat(index.findExact("other")).contains(3L);
+  }
+}
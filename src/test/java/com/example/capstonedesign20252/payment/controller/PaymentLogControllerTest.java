@@ -0,0 +1,144 @@
+package com.example.capstonedesign20252.payment.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.capstonedesign20252.payment.dto.PaymentRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 입금 알림 중복 수신 (idempotency_key)
+ *
+ * - 같은 키는 한 번만 저장되고 다시 보내도 200
+ * - 검사를 동시에 통과한 요청은 unique 인덱스 위반 → 중복으로 200
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PaymentLogControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void duplicateIdempotencyKeyIsStoredOnce() throws Exception {
+    String name = uniqueName();
+    PaymentRequestDto request = new PaymentRequestDto(name, 10000, "unknown-account", null, "key-" + name);
+
+    postLog(request, 200);
+    postLog(request, 200);
+
+    assertThat(countLogs(name)).isEqualTo(1);
+  }
+
+  @Test
+  void sameDepositWithoutKeyIsStoredOnce() throws Exception {
+    String name = uniqueName();
+    LocalDateTime receivedAt = LocalDateTime.of(2025, 3, 2, 10, 15, 30);
+
+    postLog(new PaymentRequestDto(name, 10000, "unknown-account", receivedAt, null), 200);
+    postLog(new PaymentRequestDto(" " + name + " ", 10000, "unknown-account", receivedAt, null), 200);
+    // 입금 시각이 없으면 서버 시각으로 저장되므로 중복 검사 대상 아님
+    postLog(new PaymentRequestDto(name, 10000, "unknown-account", null, null), 200);
+    postLog(new PaymentRequestDto(name, 10000, "unknown-account", null, null), 200);
+
+    assertThat(countLogs(name)).isEqualTo(3);
+  }
+
+  @Test
+  void concurrentDuplicatesAreMappedToOk() throws Exception {
+    int threads = 4;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 10; round++) {
+        String name = uniqueName();
+        String body = objectMapper.writeValueAsString(
+            new PaymentRequestDto(name, 10000, "unknown-account", null, "key-" + name));
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          statuses.add(pool.submit(() -> {
+            start.await();
+            return mockMvc.perform(post("/api/payments/log")
+                                       .contentType(MediaType.APPLICATION_JSON)
+                                       .content(body))
+                          .andReturn().getResponse().getStatus();
+          }));
+        }
+        start.countDown();
+
+        for (Future<Integer> statusCode : statuses) {
+          assertThat(statusCode.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+        assertThat(countLogs(name)).isEqualTo(1);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void batchReportsDuplicatesWithinAndAcrossRequests() throws Exception {
+    String name = uniqueName();
+    PaymentRequestDto first = new PaymentRequestDto(name, 10000, "unknown-account", null, "key-1-" + name);
+    PaymentRequestDto second = new PaymentRequestDto(name, 20000, "unknown-account", null, "key-2-" + name);
+
+    mockMvc.perform(post("/api/payments/log/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first, second, first))))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.total").value(3))
+           .andExpect(jsonPath("$.duplicate").value(1))
+           .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"));
+
+    mockMvc.perform(post("/api/payments/log/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(second))))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.duplicate").value(1))
+           .andExpect(jsonPath("$.results[0].status").value("DUPLICATE"));
+
+    assertThat(countLogs(name)).isEqualTo(2);
+  }
+
+  private void postLog(PaymentRequestDto request, int expectedStatus) throws Exception {
+    mockMvc.perform(post("/api/payments/log")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().is(expectedStatus));
+  }
+
+  private int countLogs(String name) {
+    return jdbcTemplate.queryForObject("select count(*) from payment_log where trim(name) = ?", Integer.class, name);
+  }
+
+  private static String uniqueName() {
+    return "dup-" + UUID.randomUUID();
+  }
+}
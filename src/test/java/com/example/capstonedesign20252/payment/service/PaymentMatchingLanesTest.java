@@ -0,0 +1,99 @@
+package com.example.capstonedesign20252.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 그룹별 레인 순서 보장
+ *
+ * DB 왕복은 parkNanos로 흉내, 락 없이 조회 후 갱신해도 같은 그룹은 한 레인에서 순서대로 실행되므로
+ * 재전송된 입금이 섞여 들어와도 결제 한 건은 정확히 한 번만 납부 처리되어야 함
+ */
+class PaymentMatchingLanesTest {
+
+  private static final int GROUPS = 40;
+  private static final int MEMBERS_PER_GROUP = 25;
+  private static final int LANES = 8;
+  private static final long ROUND_TRIP_NANOS = 50_000;
+
+  @Test
+  void sameKeyRunsInOrderOnOneLane() throws InterruptedException {
+    PaymentMatchingLanes lanes = new PaymentMatchingLanes("test-lane-", 4, 100,
+        new ThreadPoolExecutor.AbortPolicy());
+    List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+    for (int i = 0; i < 50; i++) {
+      int seq = i;
+      lanes.execute(7L, () -> executed.add(seq));
+    }
+    lanes.shutdown();
+    assertThat(lanes.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(executed).hasSize(50).isSorted();
+  }
+
+  @Test
+  void redeliveredDepositsArePaidOnceWithoutLocks() throws InterruptedException {
+    // 멤버마다 같은 입금이 두 번씩 (webhook 재전송) 섞여서 들어옴
+    List<long[]> deposits = new ArrayList<>();
+    for (long g = 0; g < GROUPS; g++) {
+      for (long m = 0; m < MEMBERS_PER_GROUP; m++) {
+        deposits.add(new long[]{g, m});
+        deposits.add(new long[]{g, m});
+      }
+    }
+    Collections.shuffle(deposits, new Random(42));
+
+    Store store = new Store();
+    PaymentMatchingLanes lanes = new PaymentMatchingLanes("test-lane-", LANES, deposits.size(),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    for (long[] deposit : deposits) {
+      lanes.execute(deposit[0], () -> {
+        long paymentId = deposit[0] * MEMBERS_PER_GROUP + deposit[1];
+        roundTrip(); // SELECT
+        if (store.isPending(paymentId)) {
+          roundTrip(); // UPDATE
+          store.markPaid(paymentId);
+        }
+      });
+    }
+    lanes.shutdown();
+    assertThat(lanes.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(store.paid.get()).isEqualTo(GROUPS * MEMBERS_PER_GROUP);
+    assertThat(store.doublePaid.get()).isZero();
+  }
+
+  private static void roundTrip() {
+    LockSupport.parkNanos(ROUND_TRIP_NANOS);
+  }
+
+  private static class Store {
+    private final ConcurrentHashMap<Long, Boolean> paidPayments = new ConcurrentHashMap<>();
+    private final AtomicInteger paid = new AtomicInteger();
+    private final AtomicInteger doublePaid = new AtomicInteger();
+
+    boolean isPending(long paymentId) {
+      return !paidPayments.containsKey(paymentId);
+    }
+
+    void markPaid(long paymentId) {
+      if (paidPayments.putIfAbsent(paymentId, true) == null) {
+        paid.incrementAndGet();
+      } else {
+        doublePaid.incrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.groupMember.domain.GroupMember;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.paymentCycle.dto.PaymentCycleResponseDto;
+import com.example.capstonedesign20252.paymentCycle.dto.StartPaymentCycleRequestDto;
+import com.example.capstonedesign20252.support.TestFixtures;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 수금 시작 시 INSERT ... SELECT 결제 생성: 멤버당 PENDING 한 건, 이미 결제가 있는 멤버는 제외
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class PaymentCycleServiceStartTest {
+
+  private static final String PERIOD = "2025-04";
+  private static final LocalDateTime DUE = LocalDateTime.of(2025, 4, 25, 23, 59);
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private PaymentCycleService paymentCycleService;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Test
+  void createsOnePendingPaymentPerMember() {
+    Group group = fixtures.group(15000);
+    List<Long> memberIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      memberIds.add(fixtures.member(group, "member-" + i).getId());
+    }
+    Group other = fixtures.group(15000);
+    fixtures.member(other, "outsider");
+
+    PaymentCycleResponseDto response = paymentCycleService.startPaymentCycle(group.getId(),
+        new StartPaymentCycleRequestDto(PERIOD, DUE));
+
+    assertThat(response.createdPayments()).isEqualTo(5);
+    assertThat(response.totalMembers()).isEqualTo(5);
+
+    List<Payment> payments = paymentRepository.findByGroupIdAndPaymentPeriod(group.getId(), PERIOD);
+    assertThat(payments).extracting(p -> p.getGroupMember().getId())
+                        .containsExactlyInAnyOrderElementsOf(memberIds);
+    assertThat(payments).allSatisfy(p -> {
+      assertThat(p.getStatus()).isEqualTo("PENDING");
+      assertThat(p.getAmount()).isEqualByComparingTo(new BigDecimal(15000));
+      assertThat(p.getDueDate()).isEqualTo(DUE);
+      assertThat(p.getCreatedAt()).isNotNull();
+    });
+    assertThat(paymentRepository.findByGroupIdAndPaymentPeriod(other.getId(), PERIOD)).isEmpty();
+  }
+
+  @Test
+  void skipsMembersThatAlreadyHaveAPayment() {
+    Group group = fixtures.group(20000);
+    GroupMember existing = fixtures.member(group, "existing");
+    fixtures.member(group, "new-1");
+    fixtures.member(group, "new-2");
+    Payment earlier = fixtures.payment(group, existing, PERIOD);
+
+    PaymentCycleResponseDto response = paymentCycleService.startPaymentCycle(group.getId(),
+        new StartPaymentCycleRequestDto(PERIOD, DUE));
+
+    assertThat(response.createdPayments()).isEqualTo(2);
+    List<Payment> payments = paymentRepository.findByGroupIdAndPaymentPeriod(group.getId(), PERIOD);
+    assertThat(payments).hasSize(3);
+    assertThat(payments).filteredOn(p -> p.getGroupMember().getId().equals(existing.getId()))
+                        .extracting(Payment::getId)
+                        .containsExactly(earlier.getId());
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.capstonedesign20252.common.event.PaymentPaidEvent;
+import com.example.capstonedesign20252.fee.dto.MemberPaymentDto;
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.payment.service.PaymentConfirmationService;
+import com.example.capstonedesign20252.paymentCycle.dto.CycleSnapshotSummaryDto;
+import com.example.capstonedesign20252.paymentCycle.dto.StartPaymentCycleRequestDto;
+import com.example.capstonedesign20252.support.TestFixtures;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료된 수금 기간 스냅샷: 종료 시 기록, 종료 뒤 납부 정정이 들어오면 다시 기록 (etag 변경)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class PaymentCycleSnapshotServiceTest {
+
+  private static final String PERIOD = "2025-05";
+  private static final LocalDateTime DUE = LocalDateTime.of(2025, 5, 25, 23, 59);
+  private static final LocalDateTime LATE = LocalDateTime.of(2025, 6, 3, 12, 0);
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private PaymentCycleService paymentCycleService;
+
+  @Autowired
+  private PaymentCycleSnapshotService snapshotService;
+
+  @Autowired
+  private PaymentConfirmationService paymentConfirmationService;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Group group;
+  private List<Payment> payments;
+
+  @BeforeEach
+  void setUp() {
+    group = fixtures.group(10000);
+    for (String name : List.of("kim", "lee", "park")) {
+      fixtures.member(group, name);
+    }
+    Long cycleId = paymentCycleService.startPaymentCycle(group.getId(),
+        new StartPaymentCycleRequestDto(PERIOD, DUE)).cycleId();
+    paymentCycleService.closePaymentCycle(group.getId(), cycleId);
+    payments = paymentRepository.findByGroupIdAndPaymentPeriod(group.getId(), PERIOD);
+  }
+
+  @Test
+  void closingWritesSnapshot() {
+    CycleSnapshotSummaryDto summary = snapshotService.findSummary(group.getId(), PERIOD).orElseThrow();
+
+    assertThat(summary.totalMembers()).isEqualTo(3);
+    assertThat(summary.paidMembers()).isZero();
+    assertThat(summary.overdueMembers()).isEqualTo(3);
+    assertThat(snapshotService.getMembers(summary)).extracting(MemberPaymentDto::status)
+                                                   .containsOnly("OVERDUE");
+  }
+
+  @Test
+  void latePaymentRewritesSnapshot() {
+    CycleSnapshotSummaryDto before = snapshotService.findSummary(group.getId(), PERIOD).orElseThrow();
+    Payment late = payments.get(0);
+
+    assertThat(paymentConfirmationService.confirm(late.getId(), LATE)).isTrue();
+
+    CycleSnapshotSummaryDto after = snapshotService.findSummary(group.getId(), PERIOD).orElseThrow();
+    assertThat(after.snapshotId()).isEqualTo(before.snapshotId());
+    assertThat(after.etag()).isNotEqualTo(before.etag());
+    assertThat(after.paidMembers()).isEqualTo(1);
+    assertThat(after.overdueMembers()).isEqualTo(2);
+    assertThat(after.totalCollected()).isEqualTo(10000L);
+    assertThat(snapshotService.getMembers(after))
+        .filteredOn(member -> member.paymentId().equals(late.getId()))
+        .singleElement()
+        .satisfies(member -> {
+          assertThat(member.status()).isEqualTo("PAID");
+          assertThat(member.paidAt()).isEqualTo(LATE);
+        });
+  }
+
+  @Test
+  void activeCyclePaymentSkipsSnapshot() {
+    CycleSnapshotSummaryDto before = snapshotService.findSummary(group.getId(), PERIOD).orElseThrow();
+    Payment payment = payments.get(1);
+    new TransactionTemplate(transactionManager).executeWithoutResult(
+        status -> paymentRepository.markAsPaidIfUnpaid(payment.getId(), LATE));
+
+    eventPublisher.publishEvent(event(payment, true));
+
+    assertThat(snapshotService.findSummary(group.getId(), PERIOD).orElseThrow().etag())
+        .isEqualTo(before.etag());
+
+    eventPublisher.publishEvent(event(payment, false));
+
+    CycleSnapshotSummaryDto after = snapshotService.findSummary(group.getId(), PERIOD).orElseThrow();
+    assertThat(after.etag()).isNotEqualTo(before.etag());
+    assertThat(after.paidMembers()).isEqualTo(1);
+  }
+
+  private PaymentPaidEvent event(Payment payment, boolean activeCycle) {
+    return new PaymentPaidEvent(group.getId(), payment.getId(), PERIOD, payment.getAmount(), activeCycle);
+  }
+}
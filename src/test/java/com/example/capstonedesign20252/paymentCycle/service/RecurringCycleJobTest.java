@@ -0,0 +1,96 @@
+package com.example.capstonedesign20252.paymentCycle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.dto.RecurringCycleRunDto;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import com.example.capstonedesign20252.support.TestFixtures;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 자동 수금 시작: 대상 그룹을 샤드로 나눠 처리해도 그룹마다 수금 기간이 정확히 한 번 시작됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class RecurringCycleJobTest {
+
+  // 다른 테스트 데이터와 겹치지 않는 기간
+  private static final LocalDate TODAY = LocalDate.of(2031, 1, 20);
+  private static final String PERIOD = "2031-01";
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private RecurringCycleJob recurringCycleJob;
+
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @Autowired
+  private PaymentCycleRepository paymentCycleRepository;
+
+  @Autowired
+  private PaymentRepository paymentRepository;
+
+  @Test
+  void startsEachDueGroupExactlyOnceAcrossShards() {
+    // 기본 샤드 4개보다 많은 그룹을 만들어 샤드마다 여러 그룹이 가도록
+    List<Group> due = new ArrayList<>();
+    int members = 0;
+    for (int i = 0; i < 9; i++) {
+      Group group = recurring(1 + i * 2, i % 3);
+      for (int m = 0; m <= i % 4; m++) {
+        fixtures.member(group, "member-" + m);
+        members++;
+      }
+      due.add(group);
+    }
+    Group empty = recurring(5, 0);
+    Group notYetDue = recurring(TODAY.getDayOfMonth() + 1, 0);
+    fixtures.member(notYetDue, "member");
+
+    RecurringCycleRunDto result = recurringCycleJob.run(TODAY);
+
+    assertThat(result.period()).isEqualTo(PERIOD);
+    assertThat(result.started()).isEqualTo(due.size());
+    assertThat(result.skipped()).isEqualTo(1);
+    assertThat(result.failed()).isZero();
+    assertThat(result.createdPayments()).isEqualTo(members);
+
+    for (Group group : due) {
+      PaymentCycle cycle = paymentCycleRepository.findByGroupIdAndStatus(group.getId(), "ACTIVE").orElseThrow();
+      assertThat(cycle.getPeriod()).isEqualTo(PERIOD);
+      assertThat(cycle.getDueDate()).isEqualTo(
+          TODAY.withDayOfMonth(group.getBillingDay()).plusDays(group.getDueOffsetDays()).atTime(LocalTime.of(23, 59, 59)));
+      assertThat(paymentRepository.findByGroupIdAndPaymentPeriod(group.getId(), PERIOD))
+          .hasSize(cycle.getTotalMembers());
+    }
+    assertThat(paymentCycleRepository.findByGroupIdAndStatus(empty.getId(), "ACTIVE")).isEmpty();
+    assertThat(paymentCycleRepository.findByGroupIdAndStatus(notYetDue.getId(), "ACTIVE")).isEmpty();
+
+    // 다시 돌려도 이미 시작한 그룹은 대상에서 빠짐
+    RecurringCycleRunDto rerun = recurringCycleJob.run(TODAY);
+    assertThat(rerun.started()).isZero();
+    assertThat(rerun.createdPayments()).isZero();
+  }
+
+  private Group recurring(int billingDay, int dueOffsetDays) {
+    Group group = fixtures.group(10000);
+    group.updateRecurringCycle(true, billingDay, dueOffsetDays);
+    return groupRepository.save(group);
+  }
+}
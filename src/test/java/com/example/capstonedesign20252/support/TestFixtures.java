@@ -0,0 +1,96 @@
+package com.example.capstonedesign20252.support;
+
+import com.example.capstonedesign20252.group.domain.Group;
+import com.example.capstonedesign20252.group.domain.GroupCategory;
+import com.example.capstonedesign20252.group.repository.GroupRepository;
+import com.example.capstonedesign20252.group.service.GroupRoutingIndex;
+import com.example.capstonedesign20252.groupMember.domain.GroupMember;
+import com.example.capstonedesign20252.groupMember.repository.GroupMemberRepository;
+import com.example.capstonedesign20252.payment.domain.Payment;
+import com.example.capstonedesign20252.payment.repository.PaymentRepository;
+import com.example.capstonedesign20252.paymentCycle.domain.PaymentCycle;
+import com.example.capstonedesign20252.paymentCycle.repository.PaymentCycleRepository;
+import com.example.capstonedesign20252.user.domain.LoginType;
+import com.example.capstonedesign20252.user.domain.User;
+import com.example.capstonedesign20252.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 테스트 데이터 생성 (각자 커밋, 테스트끼리 겹치지 않도록 이름/통장은 매번 새로)
+ *
+ * 테스트 클래스에서 @Import(TestFixtures.class)로 등록
+ */
+public class TestFixtures {
+
+  private final UserRepository userRepository;
+  private final GroupRepository groupRepository;
+  private final GroupMemberRepository groupMemberRepository;
+  private final PaymentRepository paymentRepository;
+  private final PaymentCycleRepository paymentCycleRepository;
+  private final GroupRoutingIndex groupRoutingIndex;
+
+  public TestFixtures(UserRepository userRepository,
+      GroupRepository groupRepository,
+      GroupMemberRepository groupMemberRepository,
+      PaymentRepository paymentRepository,
+      PaymentCycleRepository paymentCycleRepository,
+      GroupRoutingIndex groupRoutingIndex) {
+    this.userRepository = userRepository;
+    this.groupRepository = groupRepository;
+    this.groupMemberRepository = groupMemberRepository;
+    this.paymentRepository = paymentRepository;
+    this.paymentCycleRepository = paymentCycleRepository;
+    this.groupRoutingIndex = groupRoutingIndex;
+  }
+
+  /**
+   * 그룹 생성 + 입금 라우팅 등록
+   */
+  public Group group(int fee) {
+    String suffix = UUID.randomUUID().toString();
+    User user = userRepository.save(User.builder()
+                                        .name("leader")
+                                        .email(suffix + "@test.com")
+                                        .loginType(LoginType.KAKAO)
+                                        .build());
+    Group group = groupRepository.save(Group.builder()
+                                            .user(user)
+                                            .groupName("group-" + suffix)
+                                            .accountName("account-" + suffix)
+                                            .description("test")
+                                            .groupCategory(GroupCategory.CLUB)
+                                            .fee(fee)
+                                            .build());
+    groupRoutingIndex.put(group.getId(), group.getAccountName(), group.getGroupName());
+    return group;
+  }
+
+  public GroupMember member(Group group, String name) {
+    return groupMemberRepository.save(GroupMember.builder()
+                                                 .group(group)
+                                                 .name(name)
+                                                 .build());
+  }
+
+  public Payment payment(Group group, GroupMember member, String period) {
+    return paymentRepository.save(Payment.builder()
+                                         .group(group)
+                                         .groupMember(member)
+                                         .amount(BigDecimal.valueOf(group.getFee()))
+                                         .paymentPeriod(period)
+                                         .build());
+  }
+
+  public PaymentCycle cycle(Group group, String period, LocalDateTime startDate, LocalDateTime dueDate) {
+    return paymentCycleRepository.save(PaymentCycle.builder()
+                                                   .group(group)
+                                                   .period(period)
+                                                   .startDate(startDate)
+                                                   .dueDate(dueDate)
+                                                   .totalMembers(0)
+                                                   .monthlyFee(group.getFee())
+                                                   .build());
+  }
+}